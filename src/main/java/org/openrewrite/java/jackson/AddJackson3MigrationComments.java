@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+public class AddJackson3MigrationComments extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+
+    private static final MigrationComments COMMENTS;
+
+    static {
+        List<MigrationComments.Rule> rules = new ArrayList<>();
+        rules.add(MigrationComments.Rule.comment(OBJECT_MAPPER, "canSerialize", "(..)",
+                "TODO canSerialize was removed in Jackson 3 with no replacement (see https://github.com/FasterXML/jackson-databind/issues/1917). " +
+                        "Attempt serialization/deserialization and catch exceptions instead."));
+        rules.add(MigrationComments.Rule.comment(OBJECT_MAPPER, "canDeserialize", "(..)",
+                "TODO canDeserialize was removed in Jackson 3 with no replacement (see https://github.com/FasterXML/jackson-databind/issues/1917). " +
+                        "Attempt serialization/deserialization and catch exceptions instead."));
+        rules.add(MigrationComments.Rule.comment(OBJECT_MAPPER, "serializationConfig", "()",
+                "TODO serializationConfig() is not to be used by application code in Jackson 3 " +
+                        "(see https://github.com/FasterXML/jackson-databind/blob/3.x/src/main/java/tools/jackson/databind/ObjectMapper.java#L417). " +
+                        "Consider using builder configuration instead."));
+        rules.add(MigrationComments.Rule.comment(OBJECT_MAPPER, "deserializationConfig", "()",
+                "TODO deserializationConfig() is not to be used by application code in Jackson 3 " +
+                        "(see https://github.com/FasterXML/jackson-databind/blob/3.x/src/main/java/tools/jackson/databind/ObjectMapper.java#L427). " +
+                        "Consider using builder configuration instead."));
+        rules.addAll(CommentOutSimpleModuleMethodCalls.RULES);
+        COMMENTS = new MigrationComments(rules);
+    }
+
+    @Getter
+    final String displayName = "Add TODO comments to Jackson 2 calls that need manual migration";
+
+    @Getter
+    final String description = "Adds TODO comments to calls that have no direct Jackson 3 replacement: " +
+            "`ObjectMapper.canSerialize()` and `canDeserialize()`, `serializationConfig()` and `deserializationConfig()`, " +
+            "and the `SimpleModule` methods called on modules that no longer extend `SimpleModule`.";
+
+    @Getter
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return COMMENTS.getVisitor();
+    }
+}
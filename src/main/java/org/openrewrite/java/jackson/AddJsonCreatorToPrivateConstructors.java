@@ -23,9 +23,6 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
@@ -57,7 +54,7 @@ public class AddJsonCreatorToPrivateConstructors extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesType<>(JACKSON_ANNOTATION_PACKAGE + ".*", false),
+                        JacksonUsage.usesType(JACKSON_ANNOTATION_PACKAGE + ".*"),
                         Preconditions.not(new FindSourceFiles("**/*.kt").getVisitor())
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
@@ -102,16 +99,10 @@ public class AddJsonCreatorToPrivateConstructors extends Recipe {
                         // Add @JsonCreator
                         maybeAddImport(JACKSON_JSON_CREATOR);
 
-                        return JavaTemplate
-                                .builder("@JsonCreator")
-                                .imports(JACKSON_JSON_CREATOR)
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "jackson-annotations-2"))
-                                .build()
-                                .apply(
-                                        getCursor(),
-                                        md.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName))
-                                );
+                        return AnnotationPrototypes.addAnnotation(this, md,
+                                AnnotationPrototypes.annotation("@JsonCreator", "jackson-annotations-2",
+                                        new String[]{JACKSON_JSON_CREATOR}, ctx),
+                                Comparator.comparing(J.Annotation::getSimpleName), getCursor().getParentOrThrow(), ctx);
                     }
                 }
         );
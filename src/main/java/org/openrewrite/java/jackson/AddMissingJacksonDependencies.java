@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dependencies.AddDependency;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+
+@Getter
+public class AddMissingJacksonDependencies extends ScanningRecipe<AddMissingJacksonDependencies.Accumulator> {
+
+    private static final String DATAFORMAT_GROUP_ID = "com.fasterxml.jackson.dataformat";
+    private static final String DATAFORMAT_PACKAGE = DATAFORMAT_GROUP_ID + ".";
+
+    /**
+     * Dataformat sub-package, which is also the suffix of the artifact id.
+     */
+    private static final List<String> FORMATS = asList("xml", "yaml", "csv", "cbor", "smile", "avro", "ion", "protobuf");
+
+    final String displayName = "Add missing Jackson dataformat dependencies";
+
+    final String description = "Adds Jackson dataformat dependencies when code uses types from their packages " +
+            "but the dependency is not declared. For example, adds `jackson-dataformat-xml` when code uses `XmlMapper`.";
+
+    final Set<String> tags = singleton("jackson-2");
+
+    public static class Accumulator {
+        final Map<String, AddDependency> addDependencies = new LinkedHashMap<>();
+        final Map<String, Object> addDependencyAccumulators = new HashMap<>();
+        final Set<String> usedFormats = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        Accumulator acc = new Accumulator();
+        for (String format : FORMATS) {
+            AddDependency addDependency = addDependency(format);
+            acc.addDependencies.put(format, addDependency);
+            acc.addDependencyAccumulators.put(format, addDependency.getInitialValue(ctx));
+        }
+        return acc;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        Map<String, TreeVisitor<?, ExecutionContext>> scanners = new LinkedHashMap<>();
+        for (String format : FORMATS) {
+            scanners.put(format, scanner(acc.addDependencies.get(format), acc.addDependencyAccumulators.get(format)));
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                // Java sources only matter to the `AddDependency` whose dataformat they use, build files matter to all
+                Set<String> formats;
+                if (sourceFile instanceof JavaSourceFile) {
+                    formats = usedFormats((JavaSourceFile) sourceFile);
+                    acc.usedFormats.addAll(formats);
+                } else {
+                    formats = scanners.keySet();
+                }
+                for (String format : formats) {
+                    TreeVisitor<?, ExecutionContext> scanner = scanners.get(format);
+                    if (scanner.isAcceptable(sourceFile, ctx)) {
+                        scanner.visit(sourceFile, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.usedFormats.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        List<TreeVisitor<?, ExecutionContext>> visitors = new ArrayList<>();
+        for (String format : FORMATS) {
+            if (acc.usedFormats.contains(format)) {
+                visitors.add(visitor(acc.addDependencies.get(format), acc.addDependencyAccumulators.get(format)));
+            }
+        }
+        // still one `AddDependency` edit per used format, as `AddDependency` adds a single artifact per visit
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                Tree t = tree;
+                for (TreeVisitor<?, ExecutionContext> visitor : visitors) {
+                    if (visitor.isAcceptable((SourceFile) t, ctx)) {
+                        t = visitor.visitNonNull(t, ctx);
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    private static AddDependency addDependency(String format) {
+        return new AddDependency(
+                DATAFORMAT_GROUP_ID,                 // groupId
+                "jackson-dataformat-" + format,      // artifactId
+                "2.x",                               // version
+                null,                                // versionPattern
+                DATAFORMAT_PACKAGE + format + ".*",  // onlyIfUsing
+                null,                                // classifier
+                null,                                // familyPattern
+                null,                                // extension
+                null,                                // configuration
+                null,                                // scope
+                null,                                // releasesOnly
+                null,                                // type
+                null,                                // optional
+                true);                               // acceptTransitive
+    }
+
+    private static Set<String> usedFormats(JavaSourceFile cu) {
+        Set<String> formats = new HashSet<>();
+        for (String typeName : ChangeTypesVisitor.referencedTypes(cu)) {
+            if (typeName.startsWith(DATAFORMAT_PACKAGE)) {
+                int end = typeName.indexOf('.', DATAFORMAT_PACKAGE.length());
+                if (end > 0) {
+                    formats.add(typeName.substring(DATAFORMAT_PACKAGE.length(), end));
+                }
+            }
+        }
+        formats.retainAll(FORMATS);
+        return formats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TreeVisitor<?, ExecutionContext> scanner(ScanningRecipe<T> recipe, Object acc) {
+        return recipe.getScanner((T) acc);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TreeVisitor<?, ExecutionContext> visitor(ScanningRecipe<T> recipe, Object acc) {
+        return recipe.getVisitor((T) acc);
+    }
+}
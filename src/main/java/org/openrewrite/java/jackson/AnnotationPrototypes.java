@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Space;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds annotations to declarations without compiling a {@link org.openrewrite.java.JavaTemplate} per
+ * insertion. Each distinct annotation is parsed and attributed against the bundled type tables once
+ * per run into a prototype, which is kept in the {@link ExecutionContext}. Every insertion copies the
+ * prototype, places it among the leading annotations by the given order, and formats the declaration
+ * up to its name, as {@code JavaTemplate} does for {@code addAnnotation} coordinates.
+ */
+public class AnnotationPrototypes {
+
+    private static final String CTX_KEY = AnnotationPrototypes.class.getName();
+
+    private final Map<String, J.Annotation> prototypes = new ConcurrentHashMap<>();
+
+    private static AnnotationPrototypes of(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(CTX_KEY, k -> new AnnotationPrototypes());
+    }
+
+    /**
+     * @param code              the annotation as written in source, such as {@code @JsonInclude(JsonInclude.Include.NON_NULL)}
+     * @param classpathResource the bundled resource that declares the annotation type
+     * @param imports           the fully qualified types referenced by {@code code}
+     * @return a copy of the attributed annotation with fresh ids, which the caller still has to import
+     */
+    public static J.Annotation annotation(String code, String classpathResource, String[] imports, ExecutionContext ctx) {
+        AnnotationPrototypes cache = of(ctx);
+        String key = code + '\0' + classpathResource + '\0' + String.join(",", imports);
+        J.Annotation prototype = cache.prototypes.computeIfAbsent(key, k -> parse(code, classpathResource, imports, ctx));
+        return (J.Annotation) new JavaVisitor<Integer>() {
+            @Override
+            public J preVisit(J tree, Integer p) {
+                return tree.withId(Tree.randomId());
+            }
+        }.visitNonNull(prototype, 0);
+    }
+
+    public static J.ClassDeclaration addAnnotation(JavaVisitor<ExecutionContext> visitor, J.ClassDeclaration classDecl,
+                                                   J.Annotation annotation, Comparator<J.Annotation> order,
+                                                   Cursor parent, ExecutionContext ctx) {
+        J.ClassDeclaration cd = classDecl.withLeadingAnnotations(insert(classDecl.getLeadingAnnotations(), annotation, order));
+        return visitor.autoFormat(cd, cd.getName(), ctx, parent);
+    }
+
+    public static J.MethodDeclaration addAnnotation(JavaVisitor<ExecutionContext> visitor, J.MethodDeclaration method,
+                                                    J.Annotation annotation, Comparator<J.Annotation> order,
+                                                    Cursor parent, ExecutionContext ctx) {
+        J.MethodDeclaration md = method.withLeadingAnnotations(insert(method.getLeadingAnnotations(), annotation, order));
+        return visitor.autoFormat(md, md.getName(), ctx, parent);
+    }
+
+    public static J.VariableDeclarations addAnnotation(JavaVisitor<ExecutionContext> visitor, J.VariableDeclarations multiVariable,
+                                                       J.Annotation annotation, Comparator<J.Annotation> order,
+                                                       Cursor parent, ExecutionContext ctx) {
+        J.VariableDeclarations vd = multiVariable.withLeadingAnnotations(insert(multiVariable.getLeadingAnnotations(), annotation, order));
+        return visitor.autoFormat(vd, vd.getTypeExpression(), ctx, parent);
+    }
+
+    /**
+     * Inserts the annotation before the first annotation that sorts after it, leaving line breaks to the formatter.
+     */
+    private static List<J.Annotation> insert(List<J.Annotation> annotations, J.Annotation annotation, Comparator<J.Annotation> order) {
+        int index = 0;
+        while (index < annotations.size() && order.compare(annotations.get(index), annotation) <= 0) {
+            index++;
+        }
+        List<J.Annotation> inserted = new ArrayList<>(annotations.size() + 1);
+        inserted.addAll(annotations.subList(0, index));
+        inserted.add(annotation.withPrefix(Space.EMPTY));
+        inserted.addAll(annotations.subList(index, annotations.size()));
+        return inserted;
+    }
+
+    private static J.Annotation parse(String code, String classpathResource, String[] imports, ExecutionContext ctx) {
+        StringBuilder source = new StringBuilder();
+        for (String anImport : imports) {
+            source.append("import ").append(anImport).append(";\n");
+        }
+        source.append(code).append("\nclass Prototype {}\n");
+        return JavaParserPool.fromResources(ctx, classpathResource)
+                .build()
+                .parse(ctx, source.toString())
+                .filter(J.CompilationUnit.class::isInstance)
+                .map(cu -> ((J.CompilationUnit) cu).getClasses())
+                .filter(classes -> !classes.isEmpty() && !classes.get(0).getLeadingAnnotations().isEmpty())
+                .map(classes -> classes.get(0).getLeadingAnnotations().get(0))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unable to parse annotation " + code));
+    }
+}
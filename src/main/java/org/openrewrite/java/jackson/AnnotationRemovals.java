@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Removes annotations found during a visit in one after-visit per source file. Annotations are
+ * collected by id while the recipe visits the source file, and a single {@link RemoveAnnotationVisitor}
+ * matching all of them is scheduled with the first one, so the source file is traversed once more
+ * however many annotations are removed, rather than once for each of them.
+ */
+final class AnnotationRemovals {
+
+    private static final String CURSOR_KEY = AnnotationRemovals.class.getName();
+
+    private AnnotationRemovals() {
+    }
+
+    /**
+     * Schedules the removal of the annotation, which must be part of the source file being visited.
+     */
+    static void remove(JavaVisitor<ExecutionContext> visitor, J.Annotation annotation) {
+        Cursor root = visitor.getCursor().getRoot();
+        Set<UUID> annotationIds = root.getMessage(CURSOR_KEY);
+        if (annotationIds == null) {
+            annotationIds = new HashSet<>();
+            root.putMessage(CURSOR_KEY, annotationIds);
+            visitor.doAfterVisit(new RemoveAnnotationVisitor(matching(annotationIds)));
+        }
+        annotationIds.add(annotation.getId());
+    }
+
+    private static AnnotationMatcher matching(Set<UUID> annotationIds) {
+        // the signature is never consulted, as matching is by id alone
+        return new AnnotationMatcher("@java.lang.annotation.Annotation") {
+            @Override
+            public boolean matches(J.Annotation annotation) {
+                return annotationIds.contains(annotation.getId());
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes {@link TypeUtils#isAssignableTo(String, JavaType)} for the duration of a run. Answers are
+ * keyed by the target type name and by the identity of the checked type, which the type cache of the
+ * parser shares between all references to the same type, so the supertype walk for a given receiver
+ * or exception type is done once no matter how many call sites, recipes or files ask about it.
+ */
+class AssignabilityCache {
+
+    private static final String CTX_KEY = AssignabilityCache.class.getName();
+
+    private final Map<String, Map<JavaType, Boolean>> answers = new ConcurrentHashMap<>();
+
+    private static AssignabilityCache of(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(CTX_KEY, k -> new AssignabilityCache());
+    }
+
+    /**
+     * @return whether {@code type} is assignable to the type named {@code fullyQualifiedTypeName},
+     * and {@code false} when the type is unknown
+     */
+    static boolean isAssignableTo(String fullyQualifiedTypeName, @Nullable JavaType type, ExecutionContext ctx) {
+        if (type == null) {
+            return false;
+        }
+        AssignabilityCache cache = of(ctx);
+        Map<JavaType, Boolean> byType = cache.answers.computeIfAbsent(fullyQualifiedTypeName,
+                k -> Collections.synchronizedMap(new IdentityHashMap<>()));
+        Boolean assignable = byType.get(type);
+        if (assignable != null) {
+            return assignable;
+        }
+        assignable = TypeUtils.isAssignableTo(fullyQualifiedTypeName, type);
+        byType.put(type, assignable);
+        return assignable;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.java.dependencies.ChangeDependency;
+import org.openrewrite.maven.tree.*;
+
+import java.util.*;
+
+import static org.openrewrite.internal.StringUtils.matchesGlob;
+
+/**
+ * Changes dependency coordinates according to a table of old to new {@code groupId:artifactId}
+ * pairs. An old artifact id may be a glob such as {@code jackson-datatype-*}, and a new artifact id
+ * of {@code *} keeps the artifact id unchanged. The {@link ChangeDependency} of each entry is built
+ * once. For each build file the {@code groupId:artifactId} pairs of its resolved Maven or Gradle model
+ * are collected once, and only the entries whose old coordinates are among them are applied, in table
+ * order, so a build file without any of the old coordinates is not walked at all. Coordinates taken from
+ * properties, variables or version catalogs are part of the model, so they are changed as well. A build
+ * file without a model, such as a version catalog, gets every entry, as {@link ChangeDependency} would.
+ */
+public class ChangeDependenciesVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * @param oldToNewCoordinates new coordinates keyed by old coordinates, both in the format {@code groupId:artifactId}
+     * @param newVersion          the version or version selector to use for the new coordinates, such as {@code 3.0.x}
+     */
+    public ChangeDependenciesVisitor(Map<String, String> oldToNewCoordinates, String newVersion) {
+        for (Map.Entry<String, String> entry : oldToNewCoordinates.entrySet()) {
+            entries.add(new Entry(entry.getKey(), entry.getValue(), newVersion));
+        }
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        for (Entry entry : entries) {
+            if (entry.changeDependency.isAcceptable(sourceFile, ctx)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (!(tree instanceof SourceFile)) {
+            return tree;
+        }
+        SourceFile sourceFile = (SourceFile) tree;
+        Set<String> declared = declaredCoordinates(sourceFile);
+        Tree t = tree;
+        for (Entry entry : entries) {
+            if ((declared == null || entry.matchesAny(declared)) && entry.changeDependency.isAcceptable(sourceFile, ctx)) {
+                t = entry.changeDependency.visitNonNull(t, ctx);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * @return the {@code groupId:artifactId} pairs the build file requests, manages or resolves, or {@code null}
+     * when the build file has no model, or requests coordinates whose properties cannot be resolved
+     */
+    private static @Nullable Set<String> declaredCoordinates(SourceFile sourceFile) {
+        Optional<MavenResolutionResult> maven = sourceFile.getMarkers().findFirst(MavenResolutionResult.class);
+        if (maven.isPresent()) {
+            return mavenCoordinates(maven.get());
+        }
+        Optional<GradleProject> gradle = sourceFile.getMarkers().findFirst(GradleProject.class);
+        if (gradle.isPresent()) {
+            Set<String> coordinates = new HashSet<>();
+            addGradleCoordinates(gradle.get().getConfigurations(), coordinates);
+            addGradleCoordinates(gradle.get().getBuildscript().getConfigurations(), coordinates);
+            return coordinates;
+        }
+        return null;
+    }
+
+    private static @Nullable Set<String> mavenCoordinates(MavenResolutionResult model) {
+        ResolvedPom pom = model.getPom();
+        Set<String> coordinates = new HashSet<>();
+        boolean resolvable = true;
+        for (Dependency dependency : pom.getRequestedDependencies()) {
+            resolvable &= addRequested(pom, dependency.getGroupId(), dependency.getArtifactId(), coordinates);
+        }
+        for (ManagedDependency dependency : pom.getRequested().getDependencyManagement()) {
+            resolvable &= addRequested(pom, dependency.getGroupId(), dependency.getArtifactId(), coordinates);
+        }
+        for (Profile profile : pom.getRequested().getProfiles()) {
+            for (Dependency dependency : profile.getDependencies()) {
+                resolvable &= addRequested(pom, dependency.getGroupId(), dependency.getArtifactId(), coordinates);
+            }
+            for (ManagedDependency dependency : profile.getDependencyManagement()) {
+                resolvable &= addRequested(pom, dependency.getGroupId(), dependency.getArtifactId(), coordinates);
+            }
+        }
+        if (!resolvable) {
+            return null;
+        }
+        for (ResolvedManagedDependency dependency : pom.getDependencyManagement()) {
+            coordinates.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+        }
+        for (List<ResolvedDependency> dependencies : model.getDependencies().values()) {
+            for (ResolvedDependency dependency : dependencies) {
+                coordinates.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+            }
+        }
+        return coordinates;
+    }
+
+    /**
+     * @return whether the properties in the requested coordinates could be resolved
+     */
+    private static boolean addRequested(ResolvedPom pom, @Nullable String groupId, @Nullable String artifactId,
+                                        Set<String> coordinates) {
+        String resolvedGroupId = pom.getValue(groupId);
+        String resolvedArtifactId = pom.getValue(artifactId);
+        if (resolvedGroupId == null || resolvedArtifactId == null ||
+                resolvedGroupId.contains("${") || resolvedArtifactId.contains("${")) {
+            return false;
+        }
+        coordinates.add(resolvedGroupId + ':' + resolvedArtifactId);
+        return true;
+    }
+
+    private static void addGradleCoordinates(Collection<GradleDependencyConfiguration> configurations, Set<String> coordinates) {
+        for (GradleDependencyConfiguration configuration : configurations) {
+            for (Dependency dependency : configuration.getRequested()) {
+                coordinates.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+            }
+            for (ResolvedDependency dependency : configuration.getDirectResolved()) {
+                coordinates.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+            }
+        }
+    }
+
+    private static class Entry {
+        final String oldGroupId;
+        final String oldArtifactId;
+        final TreeVisitor<?, ExecutionContext> changeDependency;
+
+        Entry(String oldCoordinates, String newCoordinates, String newVersion) {
+            String[] oldGa = oldCoordinates.split(":");
+            String[] newGa = newCoordinates.split(":");
+            this.oldGroupId = oldGa[0];
+            this.oldArtifactId = oldGa[1];
+            this.changeDependency = new ChangeDependency(
+                    oldGa[0],
+                    oldGa[1],
+                    newGa[0],
+                    "*".equals(newGa[1]) ? null : newGa[1],
+                    newVersion,
+                    null, null, null).getVisitor();
+        }
+
+        boolean matchesAny(Set<String> coordinates) {
+            for (String coordinate : coordinates) {
+                int colon = coordinate.indexOf(':');
+                if (matchesGlob(coordinate.substring(0, colon), oldGroupId) &&
+                        matchesGlob(coordinate.substring(colon + 1), oldArtifactId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ChangePackage;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.*;
+
+/**
+ * Relocates packages recursively according to a table of old to new package names. The rules are
+ * stored in a trie keyed by package name segment, and every type name referenced by a source file
+ * is resolved to its longest matching package prefix. Only the rules that won a lookup are applied,
+ * deepest package first, so a rule for {@code a.b.c} always runs before a rule for {@code a.b},
+ * regardless of the order of the table.
+ */
+public class ChangePackagesVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    private final Node root = new Node();
+
+    public ChangePackagesVisitor(Map<String, String> oldToNewPackages) {
+        int order = 0;
+        for (Map.Entry<String, String> entry : oldToNewPackages.entrySet()) {
+            Node node = root;
+            String[] segments = entry.getKey().split("\\.");
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            node.rule = new Rule(new ChangePackage(entry.getKey(), entry.getValue(), true), segments.length, order++);
+        }
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        return sourceFile instanceof JavaSourceFile;
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (!(tree instanceof JavaSourceFile)) {
+            return tree;
+        }
+        Set<Rule> matched = new HashSet<>();
+        for (String typeName : ChangeTypesVisitor.referencedTypes((JavaSourceFile) tree)) {
+            Rule rule = longestPrefixMatch(typeName);
+            if (rule != null) {
+                matched.add(rule);
+            }
+        }
+        if (matched.isEmpty()) {
+            return tree;
+        }
+        List<Rule> rules = new ArrayList<>(matched);
+        rules.sort(Comparator.comparingInt((Rule r) -> -r.depth).thenComparingInt(r -> r.order));
+        Tree t = tree;
+        for (Rule rule : rules) {
+            t = rule.changePackage.getVisitor().visitNonNull(t, ctx);
+        }
+        return t;
+    }
+
+    private @Nullable Rule longestPrefixMatch(String typeName) {
+        Rule longest = null;
+        Node node = root;
+        int start = 0;
+        while (node != null && start < typeName.length()) {
+            int end = typeName.indexOf('.', start);
+            if (end < 0) {
+                end = typeName.length();
+            }
+            node = node.children.get(typeName.substring(start, end));
+            if (node != null && node.rule != null) {
+                longest = node.rule;
+            }
+            start = end + 1;
+        }
+        return longest;
+    }
+
+    private static class Node {
+        final Map<String, Node> children = new HashMap<>();
+
+        @Nullable Rule rule;
+    }
+
+    private static class Rule {
+        final ChangePackage changePackage;
+        final int depth;
+        final int order;
+
+        Rule(ChangePackage changePackage, int depth, int order) {
+            this.changePackage = changePackage;
+            this.depth = depth;
+            this.order = order;
+        }
+    }
+}
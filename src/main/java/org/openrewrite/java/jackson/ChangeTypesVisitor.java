@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.tree.*;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies a table of {@link ChangeType} migrations to a Java source file. The types referenced by
+ * the source file are collected once into a hash set, and only the table entries whose old type
+ * is among them are run, in table order. Files that reference none of the old types are returned
+ * untouched without visiting a single {@link ChangeType} precondition.
+ */
+public class ChangeTypesVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    /**
+     * Keyed by old type name, with nested type names normalized to use {@code .} as separator.
+     */
+    private final Map<String, ChangeType> changesByOldType;
+
+    public ChangeTypesVisitor(Map<String, String> oldToNewTypes) {
+        Map<String, ChangeType> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : oldToNewTypes.entrySet()) {
+            changes.put(normalize(entry.getKey()), new ChangeType(entry.getKey(), entry.getValue(), null));
+        }
+        this.changesByOldType = changes;
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        return sourceFile instanceof JavaSourceFile;
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (!(tree instanceof JavaSourceFile)) {
+            return tree;
+        }
+        Set<String> referenced = referencedTypes((JavaSourceFile) tree);
+        Tree t = tree;
+        for (Map.Entry<String, ChangeType> change : changesByOldType.entrySet()) {
+            if (referenced.contains(change.getKey())) {
+                t = change.getValue().getVisitor().visitNonNull(t, ctx);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Collects every type name a {@link ChangeType} precondition could match on: types, method
+     * declaring types and field owners in use, declared classes and imports. Owning classes of
+     * nested types are included as well, so the result is a superset of what would match.
+     */
+    static Set<String> referencedTypes(JavaSourceFile cu) {
+        Set<String> referenced = new HashSet<>();
+        TypesInUse typesInUse = cu.getTypesInUse();
+        for (JavaType type : typesInUse.getTypesInUse()) {
+            addWithOwners(type, referenced);
+        }
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            addWithOwners(method.getDeclaringType(), referenced);
+        }
+        for (JavaType.Variable variable : typesInUse.getVariables()) {
+            addWithOwners(variable.getOwner(), referenced);
+        }
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            addWithOwners(classDecl.getType(), referenced);
+        }
+        for (J.Import anImport : cu.getImports()) {
+            referenced.add(normalize(anImport.getTypeName()));
+        }
+        return referenced;
+    }
+
+    private static void addWithOwners(@Nullable JavaType type, Set<String> referenced) {
+        while (type instanceof JavaType.Array) {
+            type = ((JavaType.Array) type).getElemType();
+        }
+        for (JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type); fq != null; fq = fq.getOwningClass()) {
+            referenced.add(normalize(fq.getFullyQualifiedName()));
+        }
+    }
+
+    static String normalize(String typeName) {
+        return typeName.replace('$', '.');
+    }
+}
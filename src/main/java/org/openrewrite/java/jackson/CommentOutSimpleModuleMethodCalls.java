@@ -17,16 +17,12 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.internal.ListUtils;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.*;
-import org.openrewrite.marker.Markers;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -42,17 +38,33 @@ public class CommentOutSimpleModuleMethodCalls extends Recipe {
             "com.fasterxml.jackson.datatype.joda.JodaModule"
     ));
 
-    private static final MethodMatcher ADD_SERIALIZER = new MethodMatcher(SIMPLE_MODULE + " addSerializer(..)", true);
-    private static final MethodMatcher ADD_DESERIALIZER = new MethodMatcher(SIMPLE_MODULE + " addDeserializer(..)", true);
-    private static final MethodMatcher ADD_KEY_SERIALIZER = new MethodMatcher(SIMPLE_MODULE + " addKeySerializer(..)", true);
-    private static final MethodMatcher ADD_KEY_DESERIALIZER = new MethodMatcher(SIMPLE_MODULE + " addKeyDeserializer(..)", true);
-
-    private static final List<MethodMatcher> MATCHERS = Arrays.asList(
-            ADD_SERIALIZER, ADD_DESERIALIZER, ADD_KEY_SERIALIZER, ADD_KEY_DESERIALIZER
+    private static final List<String> METHOD_NAMES = Arrays.asList(
+            "addSerializer", "addDeserializer", "addKeySerializer", "addKeyDeserializer"
     );
 
     private static final String COMMENT_MARKER = "TODO this module no longer extends SimpleModule in Jackson 3";
 
+    static final List<MigrationComments.Rule> RULES = new ArrayList<>();
+
+    static {
+        for (String methodName : METHOD_NAMES) {
+            RULES.add(new MigrationComments.Rule(SIMPLE_MODULE, methodName, "(..)",
+                    CommentOutSimpleModuleMethodCalls::isOnAffectedModule,
+                    COMMENT_MARKER,
+                    indent -> " " + COMMENT_MARKER + ",\n" +
+                            indent + " * so addSerializer/addDeserializer calls are no longer available.\n" +
+                            indent + " * Move this call to a new SimpleModule and register it separately:\n" +
+                            indent + " *   SimpleModule customModule = new SimpleModule();\n" +
+                            indent + " *   customModule.addSerializer(...);\n" +
+                            indent + " *   mapper.registerModule(customModule);\n" +
+                            indent + " * Note: register the custom module AFTER the original module,\n" +
+                            indent + " * as the last registered serializer for a given type wins.\n" +
+                            indent + " "));
+        }
+    }
+
+    private static final MigrationComments COMMENTS = new MigrationComments(RULES);
+
     @Getter
     final String displayName = "Add comment to SimpleModule method calls on modules that no longer extend SimpleModule";
 
@@ -67,68 +79,19 @@ public class CommentOutSimpleModuleMethodCalls extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(ADD_SERIALIZER),
-                        new UsesMethod<>(ADD_DESERIALIZER),
-                        new UsesMethod<>(ADD_KEY_SERIALIZER),
-                        new UsesMethod<>(ADD_KEY_DESERIALIZER)
-                ),
-                new JavaIsoVisitor<ExecutionContext>() {
-                    @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
-                        if (MATCHERS.stream().noneMatch(matcher -> matcher.matches(m))) {
-                            return m;
-                        }
-                        if (!isOnAffectedModule(m)) {
-                            return m;
-                        }
-                        if (hasComment(m.getComments())) {
-                            return m;
-                        }
-                        String prefixWhitespace = m.getPrefix().getWhitespace();
-                        String indent = prefixWhitespace.replaceAll("^\\s*\\n", "");
-                        String comment = " " + COMMENT_MARKER + ",\n" +
-                                indent + " * so addSerializer/addDeserializer calls are no longer available.\n" +
-                                indent + " * Move this call to a new SimpleModule and register it separately:\n" +
-                                indent + " *   SimpleModule customModule = new SimpleModule();\n" +
-                                indent + " *   customModule.addSerializer(...);\n" +
-                                indent + " *   mapper.registerModule(customModule);\n" +
-                                indent + " * Note: register the custom module AFTER the original module,\n" +
-                                indent + " * as the last registered serializer for a given type wins.\n" +
-                                indent + " ";
-                        TextComment textComment = new TextComment(true, comment, prefixWhitespace, Markers.EMPTY);
-                        return m.withComments(ListUtils.concat(m.getComments(), textComment));
-                    }
-
-                    private boolean isOnAffectedModule(J.MethodInvocation method) {
-                        Expression select = method.getSelect();
-                        if (select == null) {
-                            return false;
-                        }
-                        JavaType type = select.getType();
-                        if (type == null) {
-                            return false;
-                        }
-                        for (String affectedModule : AFFECTED_MODULES) {
-                            if (TypeUtils.isAssignableTo(affectedModule, type)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-
-                    private boolean hasComment(List<Comment> comments) {
-                        for (Comment c : comments) {
-                            if (c instanceof TextComment &&
-                                    ((TextComment) c).getText().contains(COMMENT_MARKER)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-                }
-        );
+        return COMMENTS.getVisitor();
+    }
+
+    private static boolean isOnAffectedModule(J.MethodInvocation method, ExecutionContext ctx) {
+        Expression select = method.getSelect();
+        if (select == null) {
+            return false;
+        }
+        for (String affectedModule : AFFECTED_MODULES) {
+            if (AssignabilityCache.isAssignableTo(affectedModule, select.getType(), ctx)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.SearchResult;
+
+/**
+ * Gates the Jackson migration composites, so that Java sources which none of their recipes can
+ * change skip the whole recipe list. Each Java source is classified once from its
+ * {@link JacksonUsage} as referencing no Jackson types, Jackson 2 types, only Jackson 3 types or
+ * Codehaus types. Other source files, such as build files and {@code lombok.config}, always pass.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindJacksonMigrationCandidates extends Recipe {
+
+    private static final String RUNTIME_EXCEPTION = "java.lang.RuntimeException";
+
+    @Option(displayName = "Migrate from",
+            description = "The Jackson generation being migrated away from.",
+            valid = {"codehaus", "jackson-2"},
+            example = "jackson-2")
+    String migrateFrom;
+
+    String displayName = "Find source files to migrate between Jackson versions";
+
+    String description = "Find Java sources that reference the Jackson types a migration starts from, " +
+            "as well as all non-Java source files such as build files. Intended as a precondition " +
+            "for the Jackson migration recipes.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                if (!(tree instanceof JavaSourceFile) || isCandidate(JacksonUsage.of((JavaSourceFile) tree, ctx))) {
+                    return SearchResult.found(tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private boolean isCandidate(JacksonUsage usage) {
+        if ("codehaus".equals(migrateFrom)) {
+            return usage.usesCodehaus();
+        }
+        // Jackson 3 only sources can still have their `JacksonException | RuntimeException` catches simplified
+        return usage.usesJackson2() || usage.usesJackson3() && usage.usesType(RUNTIME_EXCEPTION);
+    }
+}
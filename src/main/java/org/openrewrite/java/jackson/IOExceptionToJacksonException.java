@@ -16,13 +16,12 @@
 package org.openrewrite.java.jackson;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.FindMethods;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -30,7 +29,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Collections.singleton;
 
@@ -48,6 +46,11 @@ public class IOExceptionToJacksonException extends Recipe {
     private static final MethodMatcher OBJECT_READER_MATCHER = new MethodMatcher(OBJECT_READER_PATTERN, true);
     private static final MethodMatcher OBJECT_WRITER_MATCHER = new MethodMatcher(OBJECT_WRITER_PATTERN, true);
 
+    private static final ChangeType IO_EXCEPTION_TO_JACKSON_EXCEPTION = new ChangeType(IO_EXCEPTION, JACKSON_EXCEPTION, true);
+
+    private static final String TRY_SUMMARY = "TRY_SUMMARY";
+    private static final String TRY_BODY = "TRY_BODY";
+
     final String displayName = "Replace `IOException` with `JacksonException` in catch clauses";
 
     final String description = "In Jackson 3, `ObjectMapper` and related classes no longer throw `IOException`. " +
@@ -61,34 +64,106 @@ public class IOExceptionToJacksonException extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(OBJECT_MAPPER_PATTERN),
-                        new UsesMethod<>(OBJECT_READER_PATTERN),
-                        new UsesMethod<>(OBJECT_WRITER_PATTERN)
-                ),
+                JacksonUsage.usesMethod(
+                        OBJECT_MAPPER_MATCHER,
+                        OBJECT_READER_MATCHER,
+                        OBJECT_WRITER_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Try visitTry(J.Try tryStatement, ExecutionContext ctx) {
+                        TrySummary summary = new TrySummary();
+                        getCursor().putMessage(TRY_SUMMARY, summary);
                         J.Try try_ = super.visitTry(tryStatement, ctx);
-                        if (FindMethods.find(try_, OBJECT_MAPPER_PATTERN).isEmpty() &&
-                                FindMethods.find(try_, OBJECT_READER_PATTERN).isEmpty() &&
-                                FindMethods.find(try_, OBJECT_WRITER_PATTERN).isEmpty()) {
+
+                        // The enclosing try contains this one, so it inherits everything found here
+                        TrySummary parent = getCursor().getParentOrThrow().getNearestMessage(TRY_SUMMARY);
+                        if (parent != null) {
+                            parent.jacksonCall |= summary.jacksonCall;
+                            if (isInBodyOf(parent, getCursor().getParentOrThrow())) {
+                                parent.bodyIOExceptionSource |= summary.anyIOExceptionSource();
+                            } else {
+                                parent.otherIOExceptionSource |= summary.anyIOExceptionSource();
+                            }
+                        }
+
+                        if (!summary.jacksonCall) {
                             return try_;
                         }
-                        if (hasNonJacksonIOExceptionSource(try_)) {
+                        if (summary.bodyIOExceptionSource) {
                             return addJacksonExceptionCatch(try_, ctx);
                         }
                         return try_.withCatches(ListUtils.map(try_.getCatches(), catch_ -> {
                             if (catchesIOException(catch_)) {
                                 maybeRemoveImport(IO_EXCEPTION);
                                 maybeAddImport(JACKSON_EXCEPTION);
-                                return (J.Try.Catch) new ChangeType(IO_EXCEPTION, JACKSON_EXCEPTION, true)
+                                return (J.Try.Catch) IO_EXCEPTION_TO_JACKSON_EXCEPTION
                                         .getVisitor().visitNonNull(catch_, ctx, getCursor().getParentOrThrow());
                             }
                             return catch_;
                         }));
                     }
 
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        if (parent.getValue() instanceof J.Try && ((J.Try) parent.getValue()).getBody() == block) {
+                            getCursor().putMessage(TRY_BODY, parent.getMessage(TRY_SUMMARY));
+                        }
+                        return super.visitBlock(block, ctx);
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        if (isJacksonCall(method.getMethodType())) {
+                            record(true, false);
+                        } else {
+                            record(false, throwsIOException(method.getMethodType()));
+                        }
+                        return super.visitMethodInvocation(method, ctx);
+                    }
+
+                    @Override
+                    public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                        record(isJacksonCall(memberRef.getMethodType()), false);
+                        return super.visitMemberReference(memberRef, ctx);
+                    }
+
+                    @Override
+                    public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        record(isJacksonCall(newClass.getMethodType()), throwsIOException(newClass.getMethodType()));
+                        return super.visitNewClass(newClass, ctx);
+                    }
+
+                    @Override
+                    public J.Throw visitThrow(J.Throw thrown, ExecutionContext ctx) {
+                        JavaType type = thrown.getException().getType();
+                        record(false, type != null && TypeUtils.isAssignableTo(IO_EXCEPTION, type));
+                        return super.visitThrow(thrown, ctx);
+                    }
+
+                    /**
+                     * Adds what was found at the cursor to the summary of the nearest enclosing try.
+                     */
+                    private void record(boolean jacksonCall, boolean ioExceptionSource) {
+                        TrySummary summary = getCursor().getNearestMessage(TRY_SUMMARY);
+                        if (summary == null) {
+                            return;
+                        }
+                        summary.jacksonCall |= jacksonCall;
+                        if (ioExceptionSource) {
+                            if (isInBodyOf(summary, getCursor())) {
+                                summary.bodyIOExceptionSource = true;
+                            } else {
+                                summary.otherIOExceptionSource = true;
+                            }
+                        }
+                    }
+
+                    private boolean isInBodyOf(TrySummary summary, Cursor cursor) {
+                        // resources, catches and finally of the try do not count as its body
+                        return cursor.getNearestMessage(TRY_BODY) == summary;
+                    }
+
                     private J.Try addJacksonExceptionCatch(J.Try try_, ExecutionContext ctx) {
                         List<J.Try.Catch> catches = try_.getCatches();
                         if (catches.stream().anyMatch(IOExceptionToJacksonException::catchesJacksonException)) {
@@ -98,7 +173,7 @@ public class IOExceptionToJacksonException extends Recipe {
                             if (!catchesIOException(catch_)) {
                                 return catch_;
                             }
-                            J.Try.Catch jacksonCatch = (J.Try.Catch) new ChangeType(IO_EXCEPTION, JACKSON_EXCEPTION, true)
+                            J.Try.Catch jacksonCatch = (J.Try.Catch) IO_EXCEPTION_TO_JACKSON_EXCEPTION
                                     .getVisitor().visitNonNull(catch_, ctx, getCursor().getParentOrThrow());
                             J.VariableDeclarations ioParam = catch_.getParameter().getTree();
 
@@ -166,52 +241,36 @@ public class IOExceptionToJacksonException extends Recipe {
         return TypeUtils.isAssignableTo(JACKSON_EXCEPTION, catch_.getParameter().getType());
     }
 
-    private static boolean hasNonJacksonIOExceptionSource(J.Try try_) {
-        return new JavaIsoVisitor<AtomicBoolean>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean result) {
-                if (result.get()) {
-                    return method;
-                }
-                if (OBJECT_MAPPER_MATCHER.matches(method) ||
-                        OBJECT_READER_MATCHER.matches(method) ||
-                        OBJECT_WRITER_MATCHER.matches(method)) {
-                    return method;
-                }
-                JavaType.Method methodType = method.getMethodType();
-                if (methodType != null &&
-                        methodType.getThrownExceptions().stream()
-                                .anyMatch(te -> TypeUtils.isAssignableTo(IO_EXCEPTION, te))) {
-                    result.set(true);
-                }
-                return method;
-            }
+    private static boolean isJacksonCall(JavaType.@Nullable Method methodType) {
+        return methodType != null &&
+                (OBJECT_MAPPER_MATCHER.matches(methodType) ||
+                        OBJECT_READER_MATCHER.matches(methodType) ||
+                        OBJECT_WRITER_MATCHER.matches(methodType));
+    }
 
-            @Override
-            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean result) {
-                if (result.get()) {
-                    return newClass;
-                }
-                JavaType.Method methodType = newClass.getMethodType();
-                if (methodType != null &&
-                        methodType.getThrownExceptions().stream()
-                                .anyMatch(te -> TypeUtils.isAssignableTo(IO_EXCEPTION, te))) {
-                    result.set(true);
+    private static boolean throwsIOException(JavaType.@Nullable Method methodType) {
+        if (methodType != null) {
+            for (JavaType thrown : methodType.getThrownExceptions()) {
+                if (TypeUtils.isAssignableTo(IO_EXCEPTION, thrown)) {
+                    return true;
                 }
-                return newClass;
             }
+        }
+        return false;
+    }
 
-            @Override
-            public J.Throw visitThrow(J.Throw thrown, AtomicBoolean result) {
-                if (result.get()) {
-                    return thrown;
-                }
-                JavaType type = thrown.getException().getType();
-                if (type != null && TypeUtils.isAssignableTo(IO_EXCEPTION, type)) {
-                    result.set(true);
-                }
-                return thrown;
-            }
-        }.reduce(try_.getBody(), new AtomicBoolean(false)).get();
+    /**
+     * What a try statement contains, including nested try statements: whether anywhere in it a Jackson
+     * method is called, and whether something that may throw {@code IOException} other than a Jackson
+     * call appears in its body or only in its resources, catches and finally block.
+     */
+    private static class TrySummary {
+        boolean jacksonCall;
+        boolean bodyIOExceptionSource;
+        boolean otherIOExceptionSource;
+
+        boolean anyIOExceptionSource() {
+            return bodyIOExceptionSource || otherIOExceptionSource;
+        }
     }
 }
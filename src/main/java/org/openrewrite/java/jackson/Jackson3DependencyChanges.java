@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class Jackson3DependencyChanges extends Recipe {
+
+    private static final String NEW_VERSION = "3.0.x";
+
+    /**
+     * Specific artifacts come before the globs of their group, as the first matching entry wins.
+     */
+    private static final Map<String, String> DEPENDENCY_CHANGES;
+
+    static {
+        Map<String, String> dependencyChanges = new LinkedHashMap<>();
+        dependencyChanges.put("com.fasterxml.jackson.core:jackson-core", "tools.jackson.core:jackson-core");
+        dependencyChanges.put("com.fasterxml.jackson:jackson-bom", "tools.jackson:jackson-bom");
+        dependencyChanges.put("com.fasterxml.jackson.core:jackson-databind", "tools.jackson.core:jackson-databind");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-parameter-names", "tools.jackson.core:jackson-databind");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-scala_2.13", "tools.jackson.module:jackson-module-scala_2.13");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-scala_2.12", "tools.jackson.module:jackson-module-scala_2.12");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-scala_3", "tools.jackson.module:jackson-module-scala_3");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-kotlin", "tools.jackson.module:jackson-module-kotlin");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-no-ctor-deser", "tools.jackson.module:jackson-module-no-ctor-deser");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-jakarta-xmlbind-annotations", "tools.jackson.module:jackson-module-jakarta-xmlbind-annotations");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-mrbean", "tools.jackson.module:jackson-module-mrbean");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-jaxb-annotations", "tools.jackson.module:jackson-module-jaxb-annotations");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-afterburner", "tools.jackson.module:jackson-module-afterburner");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-guice7", "tools.jackson.module:jackson-module-guice7");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-modules-base", "tools.jackson.module:jackson-modules-base");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-osgi", "tools.jackson.module:jackson-module-osgi");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-guice", "tools.jackson.module:jackson-module-guice");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-android-record", "tools.jackson.module:jackson-module-android-record");
+        dependencyChanges.put("com.fasterxml.jackson.module:jackson-module-blackbird", "tools.jackson.module:jackson-module-blackbird");
+        dependencyChanges.put("com.fasterxml.jackson.dataformat:*", "tools.jackson.dataformat:*");
+        dependencyChanges.put("com.fasterxml.jackson.datatype:jackson-datatype-jdk8", "tools.jackson.core:jackson-databind");
+        dependencyChanges.put("com.fasterxml.jackson.datatype:jackson-datatype-jsr310", "tools.jackson.core:jackson-databind");
+        dependencyChanges.put("com.fasterxml.jackson.datatype:jackson-datatype-*", "tools.jackson.datatype:*");
+        dependencyChanges.put("com.fasterxml.jackson.jaxrs:*", "tools.jackson.jaxrs:*");
+        dependencyChanges.put("com.fasterxml.jackson.jakarta.rs:*", "tools.jackson.jakarta.rs:*");
+        dependencyChanges.put("com.fasterxml.jackson.jr:*", "tools.jackson.jr:*");
+        DEPENDENCY_CHANGES = unmodifiableMap(dependencyChanges);
+    }
+
+    final String displayName = "Change Jackson 2.x dependencies to their 3.x coordinates";
+
+    final String description = "Change Jackson dependencies from the `com.fasterxml.jackson` groups to `tools.jackson`, " +
+            "folding the `parameter-names`, `jdk8` and `jsr310` modules into `jackson-databind`. All changes are applied " +
+            "from a single table, in the order of its entries.";
+
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ChangeDependenciesVisitor(DEPENDENCY_CHANGES, NEW_VERSION);
+    }
+}
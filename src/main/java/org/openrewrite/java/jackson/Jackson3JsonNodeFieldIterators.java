@@ -24,7 +24,6 @@ import org.openrewrite.java.ChangeMethodName;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
 
@@ -44,10 +43,10 @@ public class Jackson3JsonNodeFieldIterators extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(FIELDS),
-                        new UsesMethod<>(FIELDS_NAMES),
-                        new UsesMethod<>(ELEMENTS)),
+                JacksonUsage.usesMethod(
+                        FIELDS,
+                        FIELDS_NAMES,
+                        ELEMENTS),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class Jackson3MethodRenames extends Recipe {
+
+    private static final String JSON_GENERATOR = "com.fasterxml.jackson.core.JsonGenerator";
+    private static final String JSON_PARSER = "com.fasterxml.jackson.core.JsonParser";
+    private static final String JSON_NODE = "com.fasterxml.jackson.databind.JsonNode";
+    private static final String OBJECT_NODE = "com.fasterxml.jackson.databind.node.ObjectNode";
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String TYPE_FACTORY = "com.fasterxml.jackson.databind.type.TypeFactory";
+    private static final String JSON_GENERATION_EXCEPTION = "com.fasterxml.jackson.core.JsonGenerationException";
+
+    /**
+     * Renames indexed by the old method name, so each method call costs a single lookup
+     * followed by the matchers of the (typically one) rename sharing that name.
+     */
+    private static final Map<String, List<MethodRename>> RENAMES_BY_NAME = new HashMap<>();
+
+    /**
+     * Constructor argument reorders indexed by the declaring type of the constructor.
+     */
+    private static final Map<String, List<ArgumentReorder>> REORDERS_BY_TYPE = new HashMap<>();
+
+    static {
+        rename(JSON_GENERATOR, "getCodec()", "objectWriteContext", false);
+        rename(JSON_GENERATOR, "getCurrentValue()", "currentValue", false);
+        rename(JSON_GENERATOR, "setCurrentValue(..)", "assignCurrentValue", false);
+        rename(JSON_GENERATOR, "writeObject(..)", "writePOJO", false);
+        rename(JSON_GENERATOR, "writeArrayFieldStart(..)", "writeArrayPropertyStart", false);
+        rename(JSON_GENERATOR, "writeBinaryField(..)", "writeBinaryProperty", false);
+        rename(JSON_GENERATOR, "writeBooleanField(..)", "writeBooleanProperty", false);
+        rename(JSON_GENERATOR, "writeFieldId(..)", "writePropertyId", false);
+        rename(JSON_GENERATOR, "writeFieldName(..)", "writeName", false);
+        rename(JSON_GENERATOR, "writeNullField(..)", "writeNullProperty", false);
+        rename(JSON_GENERATOR, "writeNumberField(..)", "writeNumberProperty", false);
+        rename(JSON_GENERATOR, "writeObjectField(..)", "writeObjectProperty", false);
+        rename(JSON_GENERATOR, "writeObjectFieldStart(..)", "writeObjectPropertyStart", false);
+        rename(JSON_GENERATOR, "writeOmittedField(..)", "writeOmittedProperty", false);
+        rename(JSON_GENERATOR, "writePOJOField(..)", "writePOJOProperty", false);
+        rename(JSON_GENERATOR, "writeStringField(..)", "writeStringProperty", false);
+
+        rename(JSON_PARSER, "getCodec()", "objectReadContext", false);
+        rename(JSON_PARSER, "getCurrentLocation()", "currentLocation", false);
+        rename(JSON_PARSER, "getTokenLocation()", "currentTokenLocation", false);
+        rename(JSON_PARSER, "getCurrentValue()", "currentValue", false);
+        rename(JSON_PARSER, "setCurrentValue(..)", "assignCurrentValue", false);
+        rename(JSON_PARSER, "getText(..)", "getString", false);
+        rename(JSON_PARSER, "getTextCharacters()", "getStringCharacters", false);
+        rename(JSON_PARSER, "getTextLength()", "getStringLength", false);
+        rename(JSON_PARSER, "getTextOffset()", "getStringOffset", false);
+        rename(JSON_PARSER, "hasTextCharacters()", "hasStringCharacters", false);
+        rename(JSON_PARSER, "nextTextValue()", "nextStringValue", false);
+
+        // Based on https://github.com/FasterXML/jackson-future-ideas/wiki/JSTEP-3
+        rename(JSON_NODE, "asText(..)", "asString", true);
+        rename(JSON_NODE, "findValuesAsText(..)", "findValuesAsString", true);
+        rename(JSON_NODE, "isContainerNode()", "isContainer", true);
+        rename(JSON_NODE, "isTextual()", "isString", true);
+        rename(JSON_NODE, "textValue()", "asString", true);
+        rename(JSON_NODE, "with(..)", "withObject", true);
+
+        rename(OBJECT_NODE, "put(String, " + JSON_NODE + ")", "set", false);
+        rename(OBJECT_NODE, "putAll(..)", "setAll", false);
+
+        rename(TYPE_FACTORY, "defaultInstance()", "createDefaultInstance", false);
+        rename(OBJECT_MAPPER, "getSerializationConfig()", "serializationConfig", false);
+        rename(OBJECT_MAPPER, "getDeserializationConfig()", "deserializationConfig", false);
+
+        // Jackson 3 `StreamWriteException` takes the generator as its first argument
+        reorder(JSON_GENERATION_EXCEPTION, "String, " + JSON_GENERATOR,
+                asList("msg", "gen"), asList("gen", "msg"));
+        reorder(JSON_GENERATION_EXCEPTION, "Throwable, " + JSON_GENERATOR,
+                asList("cause", "gen"), asList("gen", "cause"));
+        reorder(JSON_GENERATION_EXCEPTION, "String, Throwable, " + JSON_GENERATOR,
+                asList("msg", "cause", "gen"), asList("gen", "msg", "cause"));
+    }
+
+    @Option(displayName = "Declaring type",
+            description = "Only rename the methods declared by this fully qualified type. " +
+                    "The `JsonGenerationException` constructor arguments are only reordered when no type is given.",
+            example = "com.fasterxml.jackson.core.JsonGenerator",
+            required = false)
+    @Nullable
+    String declaringType;
+
+    String displayName = "Rename Jackson 2.x methods to their 3.x equivalents";
+
+    String description = "Rename `JsonGenerator`, `JsonParser`, `JsonNode`, `ObjectNode`, `ObjectMapper` and " +
+            "`TypeFactory` methods that were renamed in 3.x, and reorder the arguments of `JsonGenerationException` " +
+            "constructors to match `StreamWriteException`. All renames and reorders are resolved through a lookup " +
+            "table in a single traversal of each source file.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesRenamedMethod(declaringType), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                JavaType.Method type = m.getMethodType();
+                if (type == null) {
+                    return m;
+                }
+                ArgumentReorder reorder = findReorder(type, declaringType);
+                if (reorder != null) {
+                    // `super(..)` calls from subclasses of `JsonGenerationException`
+                    return m.getPadding().withArguments(reorder.apply(m.getPadding().getArguments()))
+                            .withMethodType(reorder.apply(type));
+                }
+                MethodRename rename = findRename(type, declaringType);
+                if (rename != null) {
+                    JavaType.Method renamed = type.withName(rename.getNewName());
+                    return m.withName(m.getName().withSimpleName(rename.getNewName()).withType(renamed))
+                            .withMethodType(renamed);
+                }
+                return m;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass n = super.visitNewClass(newClass, ctx);
+                JavaType.Method type = n.getMethodType();
+                if (type == null) {
+                    return n;
+                }
+                ArgumentReorder reorder = findReorder(type, declaringType);
+                if (reorder != null) {
+                    return n.getPadding().withArguments(reorder.apply(n.getPadding().getArguments()))
+                            .withMethodType(reorder.apply(type));
+                }
+                return n;
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+                JavaType.Method type = m.getMethodType();
+                if (type == null) {
+                    return m;
+                }
+                MethodRename rename = findRename(type, declaringType);
+                if (rename != null) {
+                    return m.withReference(m.getReference().withSimpleName(rename.getNewName()))
+                            .withMethodType(type.withName(rename.getNewName()));
+                }
+                return m;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                List<MethodRename> renames = RENAMES_BY_NAME.get(m.getSimpleName());
+                if (classDecl == null || renames == null) {
+                    return m;
+                }
+                for (MethodRename rename : renames) {
+                    if (rename.appliesTo(declaringType) && rename.getMatcher().matches(method, classDecl)) {
+                        JavaType.Method type = m.getMethodType();
+                        if (type != null) {
+                            type = type.withName(rename.getNewName());
+                        }
+                        return m.withName(m.getName().withSimpleName(rename.getNewName()).withType(type))
+                                .withMethodType(type);
+                    }
+                }
+                return m;
+            }
+
+            @Override
+            public J.Import visitImport(J.Import _import, ExecutionContext ctx) {
+                J.Import i = super.visitImport(_import, ctx);
+                if (!i.isStatic()) {
+                    return i;
+                }
+                List<MethodRename> renames = RENAMES_BY_NAME.get(i.getQualid().getSimpleName());
+                if (renames != null) {
+                    for (MethodRename rename : renames) {
+                        J.FieldAccess qualid = i.getQualid();
+                        if (rename.appliesTo(declaringType) &&
+                            TypeUtils.isOfClassType(qualid.getTarget().getType(), rename.getDeclaringType())) {
+                            return i.withQualid(qualid.withName(qualid.getName().withSimpleName(rename.getNewName())));
+                        }
+                    }
+                }
+                return i;
+            }
+        });
+    }
+
+    private static void rename(String declaringType, String signature, String newName, boolean matchOverrides) {
+        String oldName = signature.substring(0, signature.indexOf('('));
+        RENAMES_BY_NAME.computeIfAbsent(oldName, k -> new ArrayList<>(1)).add(new MethodRename(
+                new MethodMatcher(declaringType + " " + signature, matchOverrides), declaringType, newName));
+    }
+
+    private static void reorder(String declaringType, String parameterTypes, List<String> oldParameterNames, List<String> newParameterNames) {
+        int[] fromIndex = new int[newParameterNames.size()];
+        for (int i = 0; i < fromIndex.length; i++) {
+            fromIndex[i] = oldParameterNames.indexOf(newParameterNames.get(i));
+        }
+        REORDERS_BY_TYPE.computeIfAbsent(declaringType, k -> new ArrayList<>(3)).add(new ArgumentReorder(
+                new MethodMatcher(declaringType + " <constructor>(" + parameterTypes + ")"), fromIndex));
+    }
+
+    private static @Nullable MethodRename findRename(JavaType.Method type, @Nullable String declaringType) {
+        List<MethodRename> renames = RENAMES_BY_NAME.get(type.getName());
+        if (renames != null) {
+            for (MethodRename rename : renames) {
+                if (rename.appliesTo(declaringType) && rename.getMatcher().matches(type)) {
+                    return rename;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable ArgumentReorder findReorder(JavaType.Method type, @Nullable String declaringType) {
+        if (declaringType != null || !type.isConstructor()) {
+            return null;
+        }
+        List<ArgumentReorder> reorders = REORDERS_BY_TYPE.get(type.getDeclaringType().getFullyQualifiedName());
+        if (reorders != null) {
+            for (ArgumentReorder reorder : reorders) {
+                if (reorder.getMatcher().matches(type)) {
+                    return reorder;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Value
+    private static class MethodRename {
+        MethodMatcher matcher;
+        String declaringType;
+        String newName;
+
+        boolean appliesTo(@Nullable String onlyDeclaringType) {
+            return onlyDeclaringType == null || onlyDeclaringType.equals(declaringType);
+        }
+    }
+
+    @Value
+    private static class ArgumentReorder {
+        MethodMatcher matcher;
+
+        /**
+         * For each new argument position, the position the argument is taken from.
+         */
+        int[] fromIndex;
+
+        /**
+         * Moves the arguments while every position keeps its original formatting.
+         */
+        JContainer<Expression> apply(JContainer<Expression> arguments) {
+            List<JRightPadded<Expression>> original = arguments.getPadding().getElements();
+            List<JRightPadded<Expression>> reordered = new ArrayList<>(original.size());
+            for (int i = 0; i < original.size(); i++) {
+                JRightPadded<Expression> slot = original.get(i);
+                Expression moved = original.get(fromIndex[i]).getElement();
+                reordered.add(slot.withElement(moved.withPrefix(slot.getElement().getPrefix())));
+            }
+            return arguments.getPadding().withElements(reordered);
+        }
+
+        JavaType.Method apply(JavaType.Method type) {
+            List<String> names = new ArrayList<>(fromIndex.length);
+            List<JavaType> types = new ArrayList<>(fromIndex.length);
+            for (int from : fromIndex) {
+                names.add(type.getParameterNames().get(from));
+                types.add(type.getParameterTypes().get(from));
+            }
+            return type.withParameterNames(names).withParameterTypes(types);
+        }
+    }
+
+    /**
+     * Marks Java source files that call, reference or override one of the renamed methods or
+     * reordered constructors, based on the methods recorded in {@link TypesInUse}.
+     */
+    private static class UsesRenamedMethod extends TreeVisitor<Tree, ExecutionContext> {
+        private final @Nullable String declaringType;
+
+        UsesRenamedMethod(@Nullable String declaringType) {
+            this.declaringType = declaringType;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return sourceFile instanceof JavaSourceFile;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (tree instanceof JavaSourceFile) {
+                TypesInUse typesInUse = ((JavaSourceFile) tree).getTypesInUse();
+                for (JavaType.Method type : typesInUse.getUsedMethods()) {
+                    if (findRename(type, declaringType) != null || findReorder(type, declaringType) != null) {
+                        return SearchResult.found(tree);
+                    }
+                }
+                for (JavaType.Method type : typesInUse.getDeclaredMethods()) {
+                    if (findRename(type, declaringType) != null) {
+                        return SearchResult.found(tree);
+                    }
+                }
+            }
+            return tree;
+        }
+    }
+}
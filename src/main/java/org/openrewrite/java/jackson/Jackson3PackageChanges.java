@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class Jackson3PackageChanges extends Recipe {
+
+    private static final Map<String, String> PACKAGE_CHANGES;
+
+    static {
+        Map<String, String> packageChanges = new LinkedHashMap<>();
+        packageChanges.put("com.fasterxml.jackson.core", "tools.jackson.core");
+        packageChanges.put("com.fasterxml.jackson.databind", "tools.jackson.databind");
+        packageChanges.put("com.fasterxml.jackson.module", "tools.jackson.module");
+        packageChanges.put("com.fasterxml.jackson.dataformat", "tools.jackson.dataformat");
+        packageChanges.put("com.fasterxml.jackson.datatype.jsr310", "tools.jackson.databind.ext.javatime");
+        packageChanges.put("com.fasterxml.jackson.datatype.jdk8", "tools.jackson.databind.ext.jdk8");
+        packageChanges.put("com.fasterxml.jackson.datatype", "tools.jackson.datatype");
+        PACKAGE_CHANGES = unmodifiableMap(packageChanges);
+    }
+
+    final String displayName = "Change Jackson 2.x packages to their 3.x equivalents";
+
+    final String description = "Change Jackson packages from `com.fasterxml.jackson` to `tools.jackson`, including the `jsr310` and `jdk8` " +
+            "datatypes that moved into `jackson-databind`. Each referenced type is resolved to the most specific " +
+            "relocated package, so nested packages are relocated before their parents.";
+
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ChangePackagesVisitor(PACKAGE_CHANGES);
+    }
+}
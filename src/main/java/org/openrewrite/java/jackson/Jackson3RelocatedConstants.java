@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class Jackson3RelocatedConstants extends Recipe {
+
+    private static final Map<String, String> CONSTANTS;
+
+    static {
+        Map<String, String> constants = new LinkedHashMap<>();
+        // SerializationFeature -> DateTimeFeature
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_WITH_ZONE_ID",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATES_WITH_ZONE_ID");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DURATIONS_AS_TIMESTAMPS");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS",
+                "tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS");
+
+        // DeserializationFeature -> DateTimeFeature
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS",
+                "tools.jackson.databind.cfg.DateTimeFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS");
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE",
+                "tools.jackson.databind.cfg.DateTimeFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE");
+
+        // SerializationFeature -> EnumFeature
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING",
+                "tools.jackson.databind.cfg.EnumFeature.WRITE_ENUMS_USING_TO_STRING");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_INDEX",
+                "tools.jackson.databind.cfg.EnumFeature.WRITE_ENUMS_USING_INDEX");
+        constants.put("com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUM_KEYS_USING_INDEX",
+                "tools.jackson.databind.cfg.EnumFeature.WRITE_ENUM_KEYS_USING_INDEX");
+
+        // DeserializationFeature -> EnumFeature
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS",
+                "tools.jackson.databind.cfg.EnumFeature.FAIL_ON_NUMBERS_FOR_ENUMS");
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING",
+                "tools.jackson.databind.cfg.EnumFeature.READ_ENUMS_USING_TO_STRING");
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL",
+                "tools.jackson.databind.cfg.EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL");
+        constants.put("com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE",
+                "tools.jackson.databind.cfg.EnumFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE");
+
+        // renamed in place
+        constants.put("com.fasterxml.jackson.core.JsonToken.FIELD_NAME",
+                "com.fasterxml.jackson.core.JsonToken.PROPERTY_NAME");
+        CONSTANTS = unmodifiableMap(constants);
+    }
+
+    final String displayName = "Replace Jackson 2.x constants that were relocated or renamed in 3.x";
+
+    final String description = "Jackson 3 moved date/time-related feature constants from `SerializationFeature` and " +
+            "`DeserializationFeature` into `DateTimeFeature`, and enum-related constants into `EnumFeature`. " +
+            "`JsonToken.FIELD_NAME` was renamed to `JsonToken.PROPERTY_NAME`. All constants are resolved through " +
+            "a single lookup table, including statically imported ones.";
+
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ReplaceConstantsVisitor(CONSTANTS);
+    }
+}
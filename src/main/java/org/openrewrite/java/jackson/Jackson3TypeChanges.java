@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class Jackson3TypeChanges extends Recipe {
+
+    /**
+     * Jackson 2 type to Jackson 3 type, in the order the changes are applied.
+     */
+    static final Map<String, String> TYPE_CHANGES;
+
+    static {
+        Map<String, String> typeChanges = new LinkedHashMap<>();
+        typeChanges.put("com.fasterxml.jackson.dataformat.yaml.YAMLParser$Feature", "tools.jackson.dataformat.yaml.YAMLReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.yaml.YAMLGenerator$Feature", "tools.jackson.dataformat.yaml.YAMLWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser$Feature", "tools.jackson.dataformat.xml.XmlReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator$Feature", "tools.jackson.dataformat.xml.XmlWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.csv.CsvParser$Feature", "tools.jackson.dataformat.csv.CsvReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.csv.CsvGenerator$Feature", "tools.jackson.dataformat.csv.CsvWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.cbor.CBORGenerator$Feature", "tools.jackson.dataformat.cbor.CBORWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.avro.AvroParser$Feature", "tools.jackson.dataformat.avro.AvroReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.avro.AvroGenerator$Feature", "tools.jackson.dataformat.avro.AvroWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.smile.SmileParser$Feature", "tools.jackson.dataformat.smile.SmileReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.smile.SmileGenerator$Feature", "tools.jackson.dataformat.smile.SmileWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.ion.IonParser$Feature", "tools.jackson.dataformat.ion.IonReadFeature");
+        typeChanges.put("com.fasterxml.jackson.dataformat.ion.IonGenerator$Feature", "tools.jackson.dataformat.ion.IonWriteFeature");
+        typeChanges.put("com.fasterxml.jackson.core.JsonParseException", "tools.jackson.core.exc.StreamReadException");
+        typeChanges.put("com.fasterxml.jackson.core.JsonGenerationException", "tools.jackson.core.exc.StreamWriteException");
+        typeChanges.put("com.fasterxml.jackson.core.JsonProcessingException", "tools.jackson.core.JacksonException");
+        typeChanges.put("com.fasterxml.jackson.core.JsonEOFException", "tools.jackson.core.exc.UnexpectedEndOfInputException");
+        typeChanges.put("com.fasterxml.jackson.databind.JsonMappingException", "tools.jackson.databind.DatabindException");
+        typeChanges.put("com.fasterxml.jackson.core.JsonFactory", "tools.jackson.core.TokenStreamFactory");
+        typeChanges.put("com.fasterxml.jackson.core.JsonStreamContext", "tools.jackson.core.TokenStreamContext");
+        typeChanges.put("com.fasterxml.jackson.core.JsonLocation", "tools.jackson.core.TokenStreamLocation");
+        typeChanges.put("com.fasterxml.jackson.databind.BeanDeserializerModifier", "tools.jackson.databind.deser.ValueDeserializerModifier");
+        typeChanges.put("com.fasterxml.jackson.databind.BeanSerializerModifier", "tools.jackson.databind.ser.ValueSerializerModifier");
+        typeChanges.put("com.fasterxml.jackson.databind.JsonDeserializer", "tools.jackson.databind.ValueDeserializer");
+        typeChanges.put("com.fasterxml.jackson.databind.JsonSerializer", "tools.jackson.databind.ValueSerializer");
+        typeChanges.put("com.fasterxml.jackson.databind.JsonSerializable", "tools.jackson.databind.JacksonSerializable");
+        typeChanges.put("com.fasterxml.jackson.databind.SerializerProvider", "tools.jackson.databind.SerializationContext");
+        typeChanges.put("com.fasterxml.jackson.databind.node.TextNode", "tools.jackson.databind.node.StringNode");
+        typeChanges.put("com.fasterxml.jackson.databind.Module", "tools.jackson.databind.JacksonModule");
+        typeChanges.put("com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider", "tools.jackson.databind.ser.std.SimpleFilterProvider");
+        typeChanges.put("com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter", "tools.jackson.databind.ser.std.SimpleBeanPropertyFilter");
+        typeChanges.put("com.fasterxml.jackson.databind.ser.ContainerSerializer", "tools.jackson.databind.ser.std.StdContainerSerializer");
+        typeChanges.put("com.fasterxml.jackson.module.afterburner.AfterburnerModule", "tools.jackson.module.blackbird.BlackbirdModule");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy", "tools.jackson.databind.PropertyNamingStrategies");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.UpperCamelCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.UpperCamelCaseStrategy");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.LowerCamelCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.LowerCamelCaseStrategy");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.KebabCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.KebabCaseStrategy");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.LowerDotCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.LowerDotCaseStrategy");
+        typeChanges.put("com.fasterxml.jackson.databind.PropertyNamingStrategy.LowerCaseStrategy", "tools.jackson.databind.PropertyNamingStrategies.LowerCaseStrategy");
+        TYPE_CHANGES = unmodifiableMap(typeChanges);
+    }
+
+    final String displayName = "Change Jackson 2.x types to their 3.x equivalents";
+
+    final String description = "Change Jackson types that were renamed or moved in 3.x, such as exception types, " +
+            "format specific `Feature` enums and core class renames. The types referenced by each source file are " +
+            "looked up once against the full table, so only the relevant type changes visit the file.";
+
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ChangeTypesVisitor(TYPE_CHANGES);
+    }
+}
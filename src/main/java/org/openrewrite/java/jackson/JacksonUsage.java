@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A summary of the types and methods used by a source file, built once and shared by the
+ * preconditions of all recipes in this module. The summary of the most recently checked source
+ * file is kept in the {@link ExecutionContext}, and since the recipes of a composite run one
+ * source file at a time, consecutive preconditions reuse it until the file is changed. Type
+ * lookups are hash lookups, and the outcome of each {@link MethodMatcher} is memoized, so a
+ * precondition asked again for the same file costs a single map lookup.
+ */
+public class JacksonUsage {
+
+    private static final String CTX_KEY = JacksonUsage.class.getName();
+
+    private static final String CODEHAUS_PACKAGE = "org.codehaus.jackson.";
+    private static final String JACKSON_2_PACKAGE = "com.fasterxml.jackson.";
+    private static final String JACKSON_3_PACKAGE = "tools.jackson.";
+
+    private final JavaSourceFile sourceFile;
+    private final Set<String> types;
+    private final Set<String> packages = new HashSet<>();
+    private final Collection<JavaType.Method> usedMethods;
+    private final Map<MethodMatcher, Boolean> methodMatches = new IdentityHashMap<>();
+
+    private boolean codehaus;
+    private boolean jackson2;
+    private boolean jackson3;
+
+    private JacksonUsage(JavaSourceFile sourceFile) {
+        this.sourceFile = sourceFile;
+        this.types = ChangeTypesVisitor.referencedTypes(sourceFile);
+        for (String type : types) {
+            codehaus |= type.startsWith(CODEHAUS_PACKAGE);
+            jackson2 |= type.startsWith(JACKSON_2_PACKAGE);
+            jackson3 |= type.startsWith(JACKSON_3_PACKAGE);
+            int lastDot = type.lastIndexOf('.');
+            if (lastDot > 0) {
+                packages.add(type.substring(0, lastDot));
+            }
+        }
+        this.usedMethods = sourceFile.getTypesInUse().getUsedMethods();
+    }
+
+    static JacksonUsage of(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        JacksonUsage usage = ctx.getMessage(CTX_KEY);
+        // trees are immutable, so a summary stays valid for as long as the source file is the same instance
+        if (usage == null || usage.sourceFile != sourceFile) {
+            usage = new JacksonUsage(sourceFile);
+            ctx.putMessage(CTX_KEY, usage);
+        }
+        return usage;
+    }
+
+    /**
+     * @return whether the source file references Jackson 1 types from {@code org.codehaus.jackson}
+     */
+    boolean usesCodehaus() {
+        return codehaus;
+    }
+
+    /**
+     * @return whether the source file references Jackson 2 types from {@code com.fasterxml.jackson}
+     */
+    boolean usesJackson2() {
+        return jackson2;
+    }
+
+    /**
+     * @return whether the source file references Jackson 3 types from {@code tools.jackson}
+     */
+    boolean usesJackson3() {
+        return jackson3;
+    }
+
+    /**
+     * @param typeName a fully qualified type name, or a package followed by {@code .*}
+     */
+    boolean usesType(String typeName) {
+        if (typeName.endsWith(".*")) {
+            return packages.contains(typeName.substring(0, typeName.length() - 2));
+        }
+        return types.contains(ChangeTypesVisitor.normalize(typeName));
+    }
+
+    boolean usesMethod(MethodMatcher matcher) {
+        Boolean matches = methodMatches.get(matcher);
+        if (matches == null) {
+            matches = false;
+            for (JavaType.Method method : usedMethods) {
+                if (matcher.matches(method)) {
+                    matches = true;
+                    break;
+                }
+            }
+            methodMatches.put(matcher, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * A precondition that holds when the source file uses any of the given types.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesType(String... typeNames) {
+        return new Check(usage -> {
+            for (String typeName : typeNames) {
+                if (usage.usesType(typeName)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * A precondition that holds when the source file uses all of the given types.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesAllTypes(String... typeNames) {
+        return new Check(usage -> {
+            for (String typeName : typeNames) {
+                if (!usage.usesType(typeName)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * A precondition that holds when the source file calls any method matched by the given matchers.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesMethod(MethodMatcher... matchers) {
+        return new Check(usage -> {
+            for (MethodMatcher matcher : matchers) {
+                if (usage.usesMethod(matcher)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * A precondition that holds when the source file calls methods matched by all of the given matchers.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesAllMethods(MethodMatcher... matchers) {
+        return new Check(usage -> {
+            for (MethodMatcher matcher : matchers) {
+                if (!usage.usesMethod(matcher)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * A precondition that holds when the source file uses any of the given types, or calls any method
+     * matched by the given matchers.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesAny(Collection<String> typeNames, Collection<MethodMatcher> matchers) {
+        return new Check(usage -> {
+            for (String typeName : typeNames) {
+                if (usage.usesType(typeName)) {
+                    return true;
+                }
+            }
+            for (MethodMatcher matcher : matchers) {
+                if (usage.usesMethod(matcher)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static class Check extends TreeVisitor<Tree, ExecutionContext> {
+        private final Predicate<JacksonUsage> predicate;
+
+        Check(Predicate<JacksonUsage> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return sourceFile instanceof JavaSourceFile;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (tree instanceof JavaSourceFile && predicate.test(of((JavaSourceFile) tree, ctx))) {
+                return SearchResult.found(tree);
+            }
+            return tree;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Provides {@link JavaParser} builders for the classpath resources bundled with this module.
+ * Resolving a set of resources, including version patterns such as {@code jackson-core-2.+},
+ * against the bundled jars and type table happens once per run for each distinct resource set.
+ * The resolved paths are kept in the {@link ExecutionContext}, as they are extracted to its
+ * download target, and are resolved again if any of them no longer exists. Failed resolutions
+ * are not kept. Every call returns a new builder over the resolved paths, so callers may further
+ * configure it, for example with {@code dependsOn}, without affecting other threads.
+ */
+public class JavaParserPool {
+
+    private static final String CTX_KEY = JavaParserPool.class.getName();
+
+    private JavaParserPool() {
+    }
+
+    public static JavaParser.Builder<?, ?> fromResources(ExecutionContext ctx, String... artifactNamesWithVersion) {
+        Map<String, List<Path>> classpaths = ctx.computeMessageIfAbsent(CTX_KEY, k -> new ConcurrentHashMap<>());
+        String key = key(artifactNamesWithVersion);
+        List<Path> classpath = classpaths.get(key);
+        if (classpath == null || !allExist(classpath)) {
+            classpath = unmodifiableList(JavaParser.dependenciesFromResources(ctx, artifactNamesWithVersion));
+            if (classpath.isEmpty()) {
+                classpaths.remove(key);
+            } else {
+                classpaths.put(key, classpath);
+            }
+        }
+        return JavaParser.fromJavaVersion().classpath(classpath);
+    }
+
+    private static boolean allExist(List<Path> classpath) {
+        for (Path path : classpath) {
+            if (!Files.exists(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The same resources listed in a different order resolve to the same classpath, so they share
+     * one extraction from the type table.
+     */
+    private static String key(String[] artifactNamesWithVersion) {
+        String[] sorted = artifactNamesWithVersion.clone();
+        Arrays.sort(sorted);
+        return String.join(",", sorted);
+    }
+}
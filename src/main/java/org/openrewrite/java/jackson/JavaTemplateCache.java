@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares {@link JavaTemplate} instances between all call sites of a recipe run. Templates are keyed
+ * by their code, imports, static imports, classpath resources, stub sources and context sensitivity,
+ * and the cache itself lives in the {@link ExecutionContext}, so each distinct template is built,
+ * and later compiled by {@link JavaTemplate} itself, once per run rather than once per match.
+ */
+public class JavaTemplateCache {
+
+    private static final String CTX_KEY = JavaTemplateCache.class.getName();
+
+    private final Map<String, JavaTemplate> templates = new ConcurrentHashMap<>();
+    private final AtomicInteger compileCount = new AtomicInteger();
+    private final AtomicInteger hitCount = new AtomicInteger();
+
+    static JavaTemplateCache of(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(CTX_KEY, k -> new JavaTemplateCache());
+    }
+
+    /**
+     * Starts describing a template, which is only built if no equal template was built before in this run.
+     */
+    public static Builder template(String code, ExecutionContext ctx) {
+        return new Builder(of(ctx), code, ctx);
+    }
+
+    /**
+     * @return the number of distinct templates built in this run
+     */
+    int getCompileCount() {
+        return compileCount.get();
+    }
+
+    /**
+     * @return the number of times a template was reused instead of being built again
+     */
+    int getHitCount() {
+        return hitCount.get();
+    }
+
+    public static class Builder {
+        private final JavaTemplateCache cache;
+        private final String code;
+        private final ExecutionContext ctx;
+        private String[] imports = new String[0];
+        private String[] staticImports = new String[0];
+        private String[] classpathResources = new String[0];
+        private String[] dependsOn = new String[0];
+        private boolean contextSensitive;
+
+        private Builder(JavaTemplateCache cache, String code, ExecutionContext ctx) {
+            this.cache = cache;
+            this.code = code;
+            this.ctx = ctx;
+        }
+
+        public Builder imports(String... fullyQualifiedTypeNames) {
+            this.imports = fullyQualifiedTypeNames;
+            return this;
+        }
+
+        public Builder staticImports(String... fullyQualifiedMemberTypeNames) {
+            this.staticImports = fullyQualifiedMemberTypeNames;
+            return this;
+        }
+
+        public Builder classpathFromResources(String... artifactNamesWithVersion) {
+            this.classpathResources = artifactNamesWithVersion;
+            return this;
+        }
+
+        public Builder dependsOn(String... sources) {
+            this.dependsOn = sources;
+            return this;
+        }
+
+        public Builder contextSensitive() {
+            this.contextSensitive = true;
+            return this;
+        }
+
+        public JavaTemplate build() {
+            String key = code + '\0' +
+                    String.join(",", imports) + '\0' +
+                    String.join(",", staticImports) + '\0' +
+                    String.join(",", classpathResources) + '\0' +
+                    String.join("\0", dependsOn) + '\0' +
+                    contextSensitive;
+            JavaTemplate template = cache.templates.get(key);
+            if (template != null) {
+                cache.hitCount.incrementAndGet();
+                return template;
+            }
+            return cache.templates.computeIfAbsent(key, k -> {
+                cache.compileCount.incrementAndGet();
+                JavaParser.Builder<?, ?> parser = classpathResources.length > 0 ?
+                        JavaParserPool.fromResources(ctx, classpathResources) :
+                        JavaParser.fromJavaVersion();
+                if (dependsOn.length > 0) {
+                    parser = parser.dependsOn(dependsOn);
+                }
+                JavaTemplate.Builder builder = JavaTemplate.builder(code)
+                        .imports(imports)
+                        .staticImports(staticImports)
+                        .javaParser(parser);
+                if (contextSensitive) {
+                    builder = builder.contextSensitive();
+                }
+                return builder.build();
+            });
+        }
+    }
+}
@@ -22,16 +22,18 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.reverse;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 
 @Getter
 public class MigrateMapperSettersToBuilder extends Recipe {
@@ -53,6 +55,8 @@ public class MigrateMapperSettersToBuilder extends Recipe {
             "com.fasterxml.jackson.dataformat.yaml.YAMLMapper"
     );
 
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+
     private static final Map<MethodMatcher, String> MAPPER_CTORS;
 
     static {
@@ -63,6 +67,10 @@ public class MigrateMapperSettersToBuilder extends Recipe {
     }
 
     private static final String INVOCATIONS_TO_REMOVE = "INVOCATIONS_TO_REMOVE";
+    private static final String BLOCK_INDEX = "BLOCK_INDEX";
+    private static final String FOLLOW_UP_SCHEDULED = "FOLLOW_UP_SCHEDULED";
+    private static final String MAPPER_STUBS = MigrateMapperSettersToBuilder.class.getName() + ".MAPPER_STUBS";
+    private static final String BUILDER_TYPES = MigrateMapperSettersToBuilder.class.getName() + ".BUILDER_TYPES";
     private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
     private static final String JACKSON_3_MIGRATION_GUIDE =
             "https://github.com/FasterXML/jackson/blob/main/jackson3/MIGRATING_TO_JACKSON_3.md" +
@@ -157,6 +165,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         }
     }
 
+    private static final List<MethodMatcher> SETTER_MATCHERS = new ArrayList<>();
+
+    static {
+        for (SetterToBuilderMapping mapping : SetterToBuilderMapping.values()) {
+            SETTER_MATCHERS.add(new MethodMatcher(OBJECT_MAPPER + " " + mapping.setterName + "(..)", true));
+        }
+    }
+
     final String displayName = "Migrate mapper setter calls to builder pattern";
     final String description = "In Jackson 3, `JsonMapper` and other format-aligned mappers are immutable. " +
             "Configuration methods like `setFilterProvider`, `addMixIn`, `disable`, `enable`, etc. " +
@@ -166,23 +182,18 @@ public class MigrateMapperSettersToBuilder extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        List<TreeVisitor<?, ExecutionContext>> preconditions = new ArrayList<>();
-        for (String mapper : ALL_MAPPERS) {
-            preconditions.add(new UsesType<>(mapper, false));
-        }
-        // https://github.com/openrewrite/rewrite/issues/7434
-        preconditions.add(new UsesType<>("com.fasterxml.jackson.databind.ObjectMapper", false));
-        preconditions.add(new UsesMethod<>(KOTLIN_EXTENSIONS_FQN + " " + JACKSON_OBJECT_MAPPER_NAME + "()", false));
         return Preconditions.check(
-                Preconditions.or(preconditions.toArray(new TreeVisitor[0])),
+                new UsesMapperSetters(),
                 new JavaVisitor<ExecutionContext>() {
 
                     @Override
                     public J visitBlock(J.Block block, ExecutionContext ctx) {
                         J visited = super.visitBlock(block, ctx);
-                        if (visited != block) {
-                            doAfterVisit(new UpdateSerializationInclusionConfiguration().getVisitor());
-                            doAfterVisit(new UpdateAutoDetectVisibilityConfiguration().getVisitor());
+                        // However many blocks change, the follow-up passes run once over the source file
+                        Cursor root = getCursor().getRoot();
+                        if (visited != block && root.getMessage(FOLLOW_UP_SCHEDULED) == null) {
+                            root.putMessage(FOLLOW_UP_SCHEDULED, true);
+                            doAfterVisit(followUpPasses());
                         }
                         return visited;
                     }
@@ -220,7 +231,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
 
                         // Collect setter calls that appear after the constructor
                         List<J.MethodInvocation> builderSetters = collectStandaloneSetters(
-                                block, varIdent, new HashSet<>());
+                                block, varIdent, new HashSet<>(), ctx);
 
                         if (builderSetters.isEmpty()) {
                             return nc;
@@ -267,7 +278,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             return mi;
                         }
 
-                        String matchedMapper = matchingMapperType(mi.getSelect().getType());
+                        String matchedMapper = matchingMapperType(mi.getSelect().getType(), ctx);
                         if (matchedMapper == null) {
                             return mi;
                         }
@@ -301,20 +312,6 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                 .anyMatch(t -> t.equals(commentText.trim()));
                     }
 
-                    private boolean argumentReferencesAny(J.MethodInvocation mi, Set<J.Identifier> intermediateVars) {
-                        return !new JavaIsoVisitor<Set<Boolean>>() {
-                            @Override
-                            public J.Identifier visitIdentifier(J.Identifier ident, Set<Boolean> set) {
-                                for (J.Identifier iv : intermediateVars) {
-                                    if (SemanticallyEqual.areEqual(ident, iv)) {
-                                        set.add(true);
-                                    }
-                                }
-                                return ident;
-                            }
-                        }.reduce(mi.getArguments(), new HashSet<>()).isEmpty();
-                    }
-
                     private boolean isCallOnVariable(J.MethodInvocation mi, J.Identifier varIdent) {
                         if (!(mi.getSelect() instanceof J.Identifier)) {
                             return false;
@@ -326,30 +323,8 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                 TypeUtils.isOfType(sel.getType(), varIdent.getType());
                     }
 
-                    private boolean isSetterReturnType(J.MethodInvocation mi) {
-                        JavaType.Method methodType = mi.getMethodType();
-                        if (methodType == null) {
-                            return false;
-                        }
-                        JavaType returnType = methodType.getReturnType();
-                        if (returnType == JavaType.Primitive.Void) {
-                            return true;
-                        }
-                        return TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.ObjectMapper", returnType);
-                    }
-
-                    private boolean referencesVariable(Statement stmt, J.Identifier varIdent) {
-                        return !new JavaIsoVisitor<Set<Boolean>>() {
-                            @Override
-                            public J.Identifier visitIdentifier(J.Identifier ident, Set<Boolean> set) {
-                                // Use name + type comparison instead of SemanticallyEqual for Kotlin compatibility
-                                if (ident.getSimpleName().equals(varIdent.getSimpleName()) &&
-                                        TypeUtils.isOfType(ident.getType(), varIdent.getType())) {
-                                    set.add(true);
-                                }
-                                return ident;
-                            }
-                        }.reduce(stmt, new HashSet<>()).isEmpty();
+                    private boolean isSetterReturnType(J.MethodInvocation mi, ExecutionContext ctx) {
+                        return mi.getMethodType() != null && isSetterReturnType(mi.getMethodType(), ctx);
                     }
 
                     /**
@@ -436,7 +411,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             J.Block block = getCursor().firstEnclosing(J.Block.class);
                             if (block != null) {
                                 List<J.MethodInvocation> standaloneSetters = collectStandaloneSetters(
-                                        block, varIdent, new HashSet<>());
+                                        block, varIdent, new HashSet<>(), ctx);
                                 if (!standaloneSetters.isEmpty()) {
                                     setterCalls.addAll(standaloneSetters);
 
@@ -484,66 +459,50 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                      * setters are collected; unknown setters will get TODO comments in the builder chain.
                      */
                     private List<J.MethodInvocation> collectStandaloneSetters(
-                            J.Block block, J.Identifier varIdent, Set<J.Identifier> intermediateVars) {
+                            J.Block block, J.Identifier varIdent, Set<J.Identifier> intermediateVars, ExecutionContext ctx) {
+                        // Every mapper in the block queries the same index, which is built on first use
+                        Cursor blockCursor = getCursor().dropParentUntil(J.Block.class::isInstance);
+                        BlockIndex index = blockCursor.getMessage(BLOCK_INDEX);
+                        if (index == null || index.block != block) {
+                            index = new BlockIndex(block);
+                            blockCursor.putMessage(BLOCK_INDEX, index);
+                        }
+
                         List<J.MethodInvocation> setters = new ArrayList<>();
-                        boolean pastDeclaration = false;
                         boolean collecting = true;
 
-                        for (Statement stmt : block.getStatements()) {
-                            if (!collecting) {
-                                break;
-                            }
-
-                            // Skip until we're past the declaration/assignment
-                            if (!pastDeclaration) {
-                                J.VariableDeclarations vd = extractVariableDeclarations(stmt);
-                                if (vd != null && vd.getVariables().stream()
-                                        .anyMatch(v -> SemanticallyEqual.areEqual(v.getName(), varIdent))) {
-                                    pastDeclaration = true;
-                                    continue;
-                                }
-                                if (stmt instanceof J.Assignment) {
-                                    J.Assignment a = (J.Assignment) stmt;
-                                    if (a.getVariable() instanceof J.Identifier &&
-                                            SemanticallyEqual.areEqual(a.getVariable(), varIdent)) {
-                                        pastDeclaration = true;
-                                        continue;
-                                    }
-                                }
-                                continue;
-                            }
+                        // Start right after the declaration/assignment
+                        for (int i = index.statementAfterDefinitionOf(varIdent); collecting && i < index.statements.size(); i++) {
+                            StatementUses stmt = index.statements.get(i);
 
                             // Track intermediate variable declarations
-                            J.VariableDeclarations vd = extractVariableDeclarations(stmt);
-                            if (vd != null) {
-                                for (J.VariableDeclarations.NamedVariable v : vd.getVariables()) {
+                            if (stmt.declarations != null) {
+                                for (J.VariableDeclarations.NamedVariable v : stmt.declarations.getVariables()) {
                                     intermediateVars.add(v.getName());
                                 }
                             }
 
-                            // Look inside init blocks for setter calls (must be checked BEFORE
-                            // extractMethodInvocation, which would visit into the block and find
-                            // only the first MI)
-                            if (stmt instanceof J.Block) {
-                                for (Statement innerStmt : ((J.Block) stmt).getStatements()) {
+                            // Look inside init blocks for setter calls
+                            if (stmt.statement instanceof J.Block) {
+                                for (StatementUses innerStmt : stmt.initBlockStatements) {
                                     if (!collecting) {
                                         break;
                                     }
-                                    J.MethodInvocation initMi = extractMethodInvocation(innerStmt);
+                                    J.MethodInvocation initMi = innerStmt.invocation;
                                     if (initMi != null && isCallOnVariable(initMi, varIdent)) {
-                                        if (argumentReferencesAny(initMi, intermediateVars)) {
+                                        if (innerStmt.argumentsReferenceAny(intermediateVars)) {
                                             collecting = false;
                                             continue;
                                         }
                                         if (SetterToBuilderMapping.fromSetter(initMi.getName().getSimpleName()) == null &&
-                                                !isSetterReturnType(initMi)) {
+                                                !isSetterReturnType(initMi, ctx)) {
                                             collecting = false;
                                             continue;
                                         }
                                         setters.add(initMi);
                                         continue;
                                     }
-                                    if (referencesVariable(innerStmt, varIdent)) {
+                                    if (innerStmt.references(varIdent)) {
                                         collecting = false;
                                     }
                                 }
@@ -551,14 +510,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             }
 
                             // Check if statement is a setter call on the variable
-                            J.MethodInvocation mi = extractMethodInvocation(stmt);
+                            J.MethodInvocation mi = stmt.invocation;
                             if (mi != null && isCallOnVariable(mi, varIdent)) {
-                                if (argumentReferencesAny(mi, intermediateVars)) {
+                                if (stmt.argumentsReferenceAny(intermediateVars)) {
                                     collecting = false;
                                     continue;
                                 }
                                 if (SetterToBuilderMapping.fromSetter(mi.getName().getSimpleName()) == null &&
-                                        !isSetterReturnType(mi)) {
+                                        !isSetterReturnType(mi, ctx)) {
                                     collecting = false;
                                     continue;
                                 }
@@ -566,7 +525,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                 continue;
                             }
 
-                            if (referencesVariable(stmt, varIdent)) {
+                            if (stmt.references(varIdent)) {
                                 collecting = false;
                             }
                         }
@@ -575,7 +534,8 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                     }
 
                     /**
-                     * Builds and applies the {@code Mapper.builder()...build()} template for a list of setter calls.
+                     * Builds and applies the {@code Mapper.builder()...build()} chain for a list of setter calls,
+                     * synthesized directly when possible and through a template otherwise.
                      */
                     private J applyBuilderTemplate(String mapperFqn, List<J.MethodInvocation> setters,
                                                    @Nullable String builderEntry,
@@ -626,22 +586,22 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                         }
                         maybeAddImport(JSON_INCLUDE);
 
-                        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
-                                .dependsOn(mapperStub(mapperFqn, unknownSetters));
-                        if (useKotlinFactory) {
-                            parser = parser.dependsOn(kotlinExtensionsStub());
-                        }
-
-                        JavaTemplate.Builder templateBuilder = JavaTemplate.builder(templateCode.toString())
-                                .imports(mapperFqn, JSON_INCLUDE)
-                                .javaParser(parser);
-                        if (useKotlinFactory) {
-                            templateBuilder = templateBuilder.staticImports(JACKSON_MAPPER_BUILDER_FQN);
+                        J built = unknownSetters.isEmpty() && !useKotlinFactory ?
+                                synthesizeBuilderChain(mapperFqn, setters, ctx) : null;
+                        if (built == null) {
+                            // Sites of the same shape share the stub source, and with it the compiled template
+                            String stub = mapperStub(mapperFqn, unknownSetters, ctx);
+                            JavaTemplateCache.Builder templateBuilder = JavaTemplateCache.template(templateCode.toString(), ctx)
+                                    .imports(mapperFqn, JSON_INCLUDE)
+                                    .classpathFromResources("jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+                                    .dependsOn(useKotlinFactory ? new String[]{stub, kotlinExtensionsStub()} : new String[]{stub});
+                            if (useKotlinFactory) {
+                                templateBuilder = templateBuilder.staticImports(JACKSON_MAPPER_BUILDER_FQN);
+                            }
+                            built = templateBuilder
+                                    .build()
+                                    .apply(getCursor(), coordinates, templateArgs.toArray());
                         }
-                        J built = templateBuilder
-                                .build()
-                                .apply(getCursor(), coordinates, templateArgs.toArray());
 
                         // Reattach non-setter calls that followed the known setters by swapping
                         // each suffix's select to the previous result. Keeping the original
@@ -656,15 +616,144 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                         Expression chained = ((Expression) built).withPrefix(Space.EMPTY);
                         for (J.MethodInvocation suffix : suffixCalls) {
                             J.MethodInvocation annotated = isApplyBlock(suffix) ?
-                                    addApplyTodoComment(suffix) : suffix;
+                                    addApplyTodoComment(suffix, ctx) : suffix;
                             chained = annotated.withSelect(chained);
                         }
                         return chained;
                     }
+
+                    /**
+                     * Builds the {@code Mapper.builder()...build()} chain directly from the setter calls, attributed
+                     * with the {@link BuilderTypes} of the mapper, so no template is compiled for this site. Returns
+                     * {@code null} when the chain needs what only the template can produce: Kotlin syntax,
+                     * carried-over comments, or a builder method missing from the attributed types.
+                     */
+                    private @Nullable J synthesizeBuilderChain(String mapperFqn, List<J.MethodInvocation> setters,
+                                                               ExecutionContext ctx) {
+                        if (!(getCursor().firstEnclosing(JavaSourceFile.class) instanceof J.CompilationUnit)) {
+                            return null;
+                        }
+                        for (J.MethodInvocation setter : setters) {
+                            if (hasComments(setter)) {
+                                return null;
+                            }
+                        }
+                        BuilderTypes types = BuilderTypes.of(mapperFqn, ctx);
+                        if (types == null) {
+                            return null;
+                        }
+
+                        String simpleMapperName = mapperFqn.substring(mapperFqn.lastIndexOf('.') + 1);
+                        Expression chain = invocation(
+                                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                                        simpleMapperName, types.mapperType, null),
+                                Space.EMPTY, "builder", noArguments(), types.builder);
+                        for (J.MethodInvocation setter : setters) {
+                            SetterToBuilderMapping mapping = SetterToBuilderMapping.fromSetter(setter.getName().getSimpleName());
+                            JavaType.Method methodType = mapping == null ? null :
+                                    types.builderMethods.get(builderName(setter, mapping));
+                            if (methodType == null) {
+                                return null;
+                            }
+                            chain = invocation(chain, Space.format("\n"), methodType.getName(),
+                                    setter.getPadding().getArguments(), methodType);
+                        }
+                        JavaType.Method build = types.builderMethods.get("build");
+                        if (build == null) {
+                            return null;
+                        }
+                        chain = invocation(chain, Space.format("\n"), "build", noArguments(), build);
+
+                        J replaced = getCursor().getValue();
+                        return autoFormat(chain.withPrefix(replaced.getPrefix()), ctx, getCursor().getParentOrThrow());
+                    }
                 }
         );
     }
 
+    private static boolean isSetterReturnType(JavaType.Method methodType, ExecutionContext ctx) {
+        JavaType returnType = methodType.getReturnType();
+        if (returnType == JavaType.Primitive.Void) {
+            return true;
+        }
+        return AssignabilityCache.isAssignableTo(OBJECT_MAPPER, returnType, ctx);
+    }
+
+    /**
+     * Finds the Java sources the recipe can change: those calling a mapper method named in
+     * {@link SetterToBuilderMapping}, and those constructing a mapper and calling another mapper method
+     * that returns {@code void} or the mapper, which may be folded into the builder as an unknown setter.
+     * Kotlin sources are only checked for mapper types, as their method attribution can be partial.
+     */
+    private static class UsesMapperSetters extends TreeVisitor<Tree, ExecutionContext> {
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return sourceFile instanceof JavaSourceFile;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (!(tree instanceof JavaSourceFile)) {
+                return tree;
+            }
+            JavaSourceFile sourceFile = (JavaSourceFile) tree;
+            JacksonUsage usage = JacksonUsage.of(sourceFile, ctx);
+            boolean found = sourceFile instanceof J.CompilationUnit ?
+                    usesMapperSetters(sourceFile, usage, ctx) :
+                    usesMapperTypes(usage);
+            return found ? SearchResult.found(tree) : tree;
+        }
+
+        private static boolean usesMapperSetters(JavaSourceFile sourceFile, JacksonUsage usage, ExecutionContext ctx) {
+            for (MethodMatcher setter : SETTER_MATCHERS) {
+                if (usage.usesMethod(setter)) {
+                    return true;
+                }
+            }
+            boolean constructsMapper = usage.usesMethod(JACKSON_OBJECT_MAPPER_MATCHER);
+            for (MethodMatcher constructor : MAPPER_CTORS.keySet()) {
+                constructsMapper |= usage.usesMethod(constructor);
+            }
+            if (constructsMapper) {
+                for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+                    if (!"<constructor>".equals(method.getName()) &&
+                            AssignabilityCache.isAssignableTo(OBJECT_MAPPER, method.getDeclaringType(), ctx) &&
+                            isSetterReturnType(method, ctx)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean usesMapperTypes(JacksonUsage usage) {
+            // https://github.com/openrewrite/rewrite/issues/7434
+            if (usage.usesType(OBJECT_MAPPER) || usage.usesMethod(JACKSON_OBJECT_MAPPER_MATCHER)) {
+                return true;
+            }
+            for (String mapper : ALL_MAPPERS) {
+                if (usage.usesType(mapper)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Converts the serialization inclusion and auto-detect visibility settings of the migrated builder
+     * chains, in one after-visit per source file.
+     */
+    private static TreeVisitor<?, ExecutionContext> followUpPasses() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                Tree t = new UpdateSerializationInclusionConfiguration().getVisitor().visit(tree, ctx);
+                return new UpdateAutoDetectVisibilityConfiguration().getVisitor().visit(t, ctx);
+            }
+        };
+    }
+
     /**
      * Returns the FQN of the mapper type matched by the given new class, or null if none match.
      */
@@ -680,12 +769,12 @@ public class MigrateMapperSettersToBuilder extends Recipe {
     /**
      * Returns the FQN of the mapper type that the given type is assignable to, or null if none match.
      */
-    private static @Nullable String matchingMapperType(@Nullable JavaType type) {
+    private static @Nullable String matchingMapperType(@Nullable JavaType type, ExecutionContext ctx) {
         if (type == null) {
             return null;
         }
         for (String mapper : ALL_MAPPERS) {
-            if (TypeUtils.isAssignableTo(mapper, type)) {
+            if (AssignabilityCache.isAssignableTo(mapper, type, ctx)) {
                 return mapper;
             }
         }
@@ -771,12 +860,47 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                 "}\n";
     }
 
+    /**
+     * Returns the {@link #mapperStub(String, SortedMap)} for a mapper and the signatures of its
+     * unknown setters, generated once per run for each distinct combination.
+     */
+    private static String mapperStub(String mapperFqn, List<J.MethodInvocation> unknownSetters, ExecutionContext ctx) {
+        SortedMap<String, String> signatures = unknownSetterSignatures(unknownSetters);
+        Map<String, String> stubs = ctx.computeMessageIfAbsent(MAPPER_STUBS, k -> new ConcurrentHashMap<>());
+        return stubs.computeIfAbsent(mapperFqn + signatures, k -> mapperStub(mapperFqn, signatures));
+    }
+
+    /**
+     * Parameter lists of the unknown setters keyed by method name, which the stub declares in name order so that
+     * the same set of setters always yields the same stub.
+     */
+    private static SortedMap<String, String> unknownSetterSignatures(List<J.MethodInvocation> unknownSetters) {
+        SortedMap<String, String> signatures = new TreeMap<>();
+        for (J.MethodInvocation mi : unknownSetters) {
+            String name = mi.getName().getSimpleName();
+            if (!signatures.containsKey(name)) {
+                StringBuilder parameters = new StringBuilder();
+                int i = 0;
+                for (Expression arg : mi.getArguments()) {
+                    if (!(arg instanceof J.Empty)) {
+                        if (i > 0) {
+                            parameters.append(", ");
+                        }
+                        parameters.append(stubTypeName(arg)).append(" arg").append(i++);
+                    }
+                }
+                signatures.put(name, parameters.toString());
+            }
+        }
+        return signatures;
+    }
+
     /**
      * Generates a stub class for a mapper with an inner {@code Builder} class, so the
      * JavaTemplate parser can resolve the builder pattern. Always provides a full Builder
      * with all known methods declared explicitly plus any unknown methods passed in.
      */
-    private static String mapperStub(String mapperFqn, List<J.MethodInvocation> unknownSetters) {
+    private static String mapperStub(String mapperFqn, SortedMap<String, String> unknownSetterSignatures) {
         int lastDot = mapperFqn.lastIndexOf('.');
         String packageName = mapperFqn.substring(0, lastDot);
         String simpleName = mapperFqn.substring(lastDot + 1);
@@ -835,25 +959,9 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         sb.append("        public Builder defaultLeniency(Object l) { return this; }\n");
 
         // Stubs for unknown methods so the template compiles
-        Set<String> addedMethods = new HashSet<>();
-        for (J.MethodInvocation mi : unknownSetters) {
-            String name = mi.getName().getSimpleName();
-            if (addedMethods.add(name)) {
-                List<Expression> callArgs = new ArrayList<>();
-                for (Expression arg : mi.getArguments()) {
-                    if (!(arg instanceof J.Empty)) {
-                        callArgs.add(arg);
-                    }
-                }
-                sb.append("        public Builder ").append(name).append("(");
-                for (int i = 0; i < callArgs.size(); i++) {
-                    if (i > 0) {
-                        sb.append(", ");
-                    }
-                    sb.append(stubTypeName(callArgs.get(i))).append(" arg").append(i);
-                }
-                sb.append(") { return this; }\n");
-            }
+        for (Map.Entry<String, String> signature : unknownSetterSignatures.entrySet()) {
+            sb.append("        public Builder ").append(signature.getKey())
+                    .append("(").append(signature.getValue()).append(") { return this; }\n");
         }
 
         sb.append("        public ").append(simpleName).append(" build() { return null; }\n");
@@ -897,7 +1005,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
      * info) like {@code println()} which can't be distinguished from implicit-receiver setter
      * calls without type attribution.
      */
-    private static boolean isMapperReceiverCall(J.MethodInvocation mi) {
+    private static boolean isMapperReceiverCall(J.MethodInvocation mi, ExecutionContext ctx) {
         Expression select = mi.getSelect();
         if (select != null) {
             if (select instanceof J.Identifier && "this".equals(((J.Identifier) select).getSimpleName())) {
@@ -908,7 +1016,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         }
         JavaType.Method methodType = mi.getMethodType();
         if (methodType != null) {
-            return matchingMapperType(methodType.getDeclaringType()) != null;
+            return matchingMapperType(methodType.getDeclaringType(), ctx) != null;
         }
         return false;
     }
@@ -926,7 +1034,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
      * Comments are placed in the whitespace after the select (i.e. between the previous call
      * and the {@code .}) so they render on their own lines directly above {@code .apply}.
      */
-    private static J.MethodInvocation addApplyTodoComment(J.MethodInvocation apply) {
+    private static J.MethodInvocation addApplyTodoComment(J.MethodInvocation apply, ExecutionContext ctx) {
         if (!(apply.getArguments().get(0) instanceof J.Lambda)) {
             return apply;
         }
@@ -943,7 +1051,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         boolean hasUnrecognized = false;
         for (Statement stmt : body.getStatements()) {
             J.MethodInvocation mi = extractMethodInvocation(stmt);
-            if (mi == null || !isMapperReceiverCall(mi)) {
+            if (mi == null || !isMapperReceiverCall(mi, ctx)) {
                 continue;
             }
             SetterToBuilderMapping mapping = SetterToBuilderMapping.fromSetter(mi.getName().getSimpleName());
@@ -1000,6 +1108,119 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         return apply.getPadding().withSelect(selectPad.withAfter(newAfter));
     }
 
+    /**
+     * Def-use summary of a block, built in one pass over its statements and shared by every mapper
+     * declared in it, so that collecting the setters of a mapper does not walk the rest of the block again.
+     */
+    private static class BlockIndex {
+        final J.Block block;
+        final List<StatementUses> statements = new ArrayList<>();
+
+        /**
+         * Indexes of the statements that declare or assign a variable, keyed by variable name.
+         */
+        final Map<String, List<Map.Entry<Integer, J.Identifier>>> definitions = new HashMap<>();
+
+        BlockIndex(J.Block block) {
+            this.block = block;
+            for (Statement stmt : block.getStatements()) {
+                int i = statements.size();
+                StatementUses uses = new StatementUses(stmt);
+                statements.add(uses);
+                if (uses.declarations != null) {
+                    for (J.VariableDeclarations.NamedVariable v : uses.declarations.getVariables()) {
+                        addDefinition(i, v.getName());
+                    }
+                }
+                if (stmt instanceof J.Assignment && ((J.Assignment) stmt).getVariable() instanceof J.Identifier) {
+                    addDefinition(i, (J.Identifier) ((J.Assignment) stmt).getVariable());
+                }
+            }
+        }
+
+        private void addDefinition(int statement, J.Identifier name) {
+            definitions.computeIfAbsent(name.getSimpleName(), k -> new ArrayList<>())
+                    .add(new AbstractMap.SimpleImmutableEntry<>(statement, name));
+        }
+
+        /**
+         * @return the index of the statement following the first declaration or assignment of the
+         * variable, or the number of statements if the block neither declares nor assigns it
+         */
+        int statementAfterDefinitionOf(J.Identifier varIdent) {
+            for (Map.Entry<Integer, J.Identifier> definition :
+                    definitions.getOrDefault(varIdent.getSimpleName(), emptyList())) {
+                if (SemanticallyEqual.areEqual(definition.getValue(), varIdent)) {
+                    return definition.getKey() + 1;
+                }
+            }
+            return statements.size();
+        }
+    }
+
+    /**
+     * The variables a statement declares and the identifiers it uses, both overall and in the
+     * arguments of its method invocation, keyed by simple name.
+     */
+    private static class StatementUses {
+        final Statement statement;
+        final J.@Nullable VariableDeclarations declarations;
+        final J.@Nullable MethodInvocation invocation;
+        final Map<String, List<J.Identifier>> identifiers;
+        final Map<String, List<J.Identifier>> argumentIdentifiers;
+        final List<StatementUses> initBlockStatements = new ArrayList<>();
+
+        StatementUses(Statement statement) {
+            this.statement = statement;
+            this.declarations = extractVariableDeclarations(statement);
+            if (statement instanceof J.Block) {
+                this.invocation = null;
+                this.identifiers = emptyMap();
+                this.argumentIdentifiers = emptyMap();
+                for (Statement innerStmt : ((J.Block) statement).getStatements()) {
+                    initBlockStatements.add(new StatementUses(innerStmt));
+                }
+            } else {
+                this.invocation = extractMethodInvocation(statement);
+                this.identifiers = identifiersByName(singletonList(statement));
+                this.argumentIdentifiers = invocation == null ? emptyMap() : identifiersByName(invocation.getArguments());
+            }
+        }
+
+        boolean references(J.Identifier varIdent) {
+            // Use name + type comparison instead of SemanticallyEqual for Kotlin compatibility
+            for (J.Identifier ident : identifiers.getOrDefault(varIdent.getSimpleName(), emptyList())) {
+                if (TypeUtils.isOfType(ident.getType(), varIdent.getType())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean argumentsReferenceAny(Set<J.Identifier> vars) {
+            for (J.Identifier var : vars) {
+                for (J.Identifier ident : argumentIdentifiers.getOrDefault(var.getSimpleName(), emptyList())) {
+                    if (SemanticallyEqual.areEqual(ident, var)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static Map<String, List<J.Identifier>> identifiersByName(Iterable<? extends J> trees) {
+            Map<String, List<J.Identifier>> identifiers = new HashMap<>();
+            new JavaIsoVisitor<Map<String, List<J.Identifier>>>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier ident, Map<String, List<J.Identifier>> map) {
+                    map.computeIfAbsent(ident.getSimpleName(), k -> new ArrayList<>()).add(ident);
+                    return ident;
+                }
+            }.reduce(trees, identifiers);
+            return identifiers;
+        }
+    }
+
     /**
      * Result of partially extracting setter calls from a Kotlin {@code .apply { ... }} block.
      * Contains the setters that were extracted (for folding into the builder chain) and,
@@ -1238,18 +1459,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
      */
     private static void appendBuilderCall(J.MethodInvocation mi, SetterToBuilderMapping mapping,
                                            StringBuilder templateCode, List<Expression> templateArgs) {
-        String builderName = mapping.builderName;
-        // Jackson 2 MapperBuilder does not have defaultPropertyInclusion(Include), only
-        // serializationInclusion(Include). Use serializationInclusion here so the template
-        // resolves against the Jackson 2 classpath; UpdateSerializationInclusionConfiguration
-        // (running after) converts it to changeDefaultPropertyInclusion.
-        if (mapping == SetterToBuilderMapping.SET_DEFAULT_PROPERTY_INCLUSION &&
-                mi.getArguments().size() == 1 &&
-                !(mi.getArguments().get(0) instanceof J.Empty) &&
-                TypeUtils.isAssignableTo("com.fasterxml.jackson.annotation.JsonInclude$Include",
-                        mi.getArguments().get(0).getType())) {
-            builderName = "serializationInclusion";
-        }
+        String builderName = builderName(mi, mapping);
         appendComments(mi.getPrefix().getComments(), templateCode);
         appendComments(mi.getName().getPrefix().getComments(), templateCode);
         if (mi.getPadding().getSelect() != null) {
@@ -1271,6 +1481,105 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         templateCode.append(")");
     }
 
+    private static String builderName(J.MethodInvocation mi, SetterToBuilderMapping mapping) {
+        // Jackson 2 MapperBuilder does not have defaultPropertyInclusion(Include), only
+        // serializationInclusion(Include). Use serializationInclusion here so the call
+        // resolves against the Jackson 2 classpath; UpdateSerializationInclusionConfiguration
+        // (running after) converts it to changeDefaultPropertyInclusion.
+        if (mapping == SetterToBuilderMapping.SET_DEFAULT_PROPERTY_INCLUSION &&
+                mi.getArguments().size() == 1 &&
+                !(mi.getArguments().get(0) instanceof J.Empty) &&
+                TypeUtils.isAssignableTo("com.fasterxml.jackson.annotation.JsonInclude$Include",
+                        mi.getArguments().get(0).getType())) {
+            return "serializationInclusion";
+        }
+        return mapping.builderName;
+    }
+
+    /**
+     * True if the setter carries comments that the builder chain has to reproduce, which only
+     * the template path does.
+     */
+    private static boolean hasComments(J.MethodInvocation mi) {
+        return !mi.getPrefix().getComments().isEmpty() ||
+                !mi.getName().getPrefix().getComments().isEmpty() ||
+                mi.getPadding().getSelect() != null && !mi.getPadding().getSelect().getAfter().getComments().isEmpty();
+    }
+
+    private static J.MethodInvocation invocation(Expression select, Space beforeDot, String name,
+                                                 JContainer<Expression> arguments, JavaType.Method methodType) {
+        return new J.MethodInvocation(
+                Tree.randomId(),
+                Space.EMPTY,
+                Markers.EMPTY,
+                JRightPadded.build(select).withAfter(beforeDot),
+                null,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), name, methodType, null),
+                arguments,
+                methodType);
+    }
+
+    private static JContainer<Expression> noArguments() {
+        return JContainer.build(Space.EMPTY,
+                singletonList(JRightPadded.<Expression>build(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY))),
+                Markers.EMPTY);
+    }
+
+    /**
+     * The types of a mapper and its {@code Builder} as declared by {@link #mapperStub(String, SortedMap)},
+     * attributed once per run and mapper so that builder chains can be built without compiling a template.
+     * A mapper whose stub could not be attributed is not remembered, so it is attributed again on next use.
+     */
+    private static class BuilderTypes {
+        final JavaType.FullyQualified mapperType;
+        final JavaType.Method builder;
+        final Map<String, JavaType.Method> builderMethods = new HashMap<>();
+
+        private BuilderTypes(JavaType.FullyQualified mapperType, JavaType.Method builder, JavaType.FullyQualified builderType) {
+            this.mapperType = mapperType;
+            this.builder = builder;
+            for (JavaType.Method method : builderType.getMethods()) {
+                builderMethods.putIfAbsent(method.getName(), method);
+            }
+        }
+
+        static @Nullable BuilderTypes of(String mapperFqn, ExecutionContext ctx) {
+            Map<String, BuilderTypes> byMapper = ctx.computeMessageIfAbsent(BUILDER_TYPES, k -> new ConcurrentHashMap<>());
+            BuilderTypes types = byMapper.get(mapperFqn);
+            if (types == null) {
+                types = attribute(mapperFqn, ctx);
+                if (types != null) {
+                    byMapper.put(mapperFqn, types);
+                }
+            }
+            return types;
+        }
+
+        private static @Nullable BuilderTypes attribute(String mapperFqn, ExecutionContext ctx) {
+            Optional<J.CompilationUnit> stub = JavaParserPool
+                    .fromResources(ctx, "jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+                    .build()
+                    .parse(ctx, mapperStub(mapperFqn, new TreeMap<>()))
+                    .filter(J.CompilationUnit.class::isInstance)
+                    .map(J.CompilationUnit.class::cast)
+                    .findFirst();
+            if (!stub.isPresent() || stub.get().getClasses().isEmpty()) {
+                return null;
+            }
+            JavaType.FullyQualified mapperType = stub.get().getClasses().get(0).getType();
+            if (mapperType == null) {
+                return null;
+            }
+            for (JavaType.Method method : mapperType.getMethods()) {
+                JavaType.FullyQualified builderType = TypeUtils.asFullyQualified(method.getReturnType());
+                if ("builder".equals(method.getName()) && builderType != null) {
+                    return new BuilderTypes(mapperType, method, builderType);
+                }
+            }
+            return null;
+        }
+    }
+
     private static void appendComments(List<Comment> comments, StringBuilder templateCode) {
         for (Comment comment : comments) {
             if (comment instanceof TextComment) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Comment;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TextComment;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Attaches TODO comments for manual migration steps to method invocations, for a whole table of
+ * method patterns at once. Rules are looked up by method name, so each invocation is checked only
+ * against the rules for its name, and a rule is skipped when any comment preceding the invocation
+ * already contains its marker. The comment is placed in the prefix of the invocation,
+ * as {@link org.openrewrite.java.AddCommentToMethodInvocations} does.
+ */
+class MigrationComments {
+
+    private final Map<String, List<Rule>> rulesByMethodName = new HashMap<>();
+    private final MethodMatcher[] matchers;
+
+    MigrationComments(List<Rule> rules) {
+        this.matchers = new MethodMatcher[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            Rule rule = rules.get(i);
+            rulesByMethodName.computeIfAbsent(rule.methodName, k -> new ArrayList<>(1)).add(rule);
+            matchers[i] = rule.matcher;
+        }
+    }
+
+    TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                JacksonUsage.usesMethod(matchers),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        List<Rule> rules = rulesByMethodName.get(m.getSimpleName());
+                        if (rules == null) {
+                            return m;
+                        }
+                        for (Rule rule : rules) {
+                            if (rule.matcher.matches(m) && rule.applies.test(m, ctx)) {
+                                return hasComment(m.getComments(), rule.marker) ? m : addComment(m, rule);
+                            }
+                        }
+                        return m;
+                    }
+                });
+    }
+
+    private static J.MethodInvocation addComment(J.MethodInvocation m, Rule rule) {
+        String prefixWhitespace = m.getPrefix().getWhitespace();
+        String indent = prefixWhitespace.substring(prefixWhitespace.lastIndexOf('\n') + 1);
+        TextComment textComment = new TextComment(true, rule.text.apply(indent), prefixWhitespace, Markers.EMPTY);
+        return m.withComments(ListUtils.concat(m.getComments(), textComment));
+    }
+
+    private static boolean hasComment(List<Comment> comments, String marker) {
+        for (Comment c : comments) {
+            if (c instanceof TextComment && ((TextComment) c).getText().contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static class Rule {
+        final String methodName;
+        final MethodMatcher matcher;
+        final BiPredicate<J.MethodInvocation, ExecutionContext> applies;
+        final String marker;
+        final UnaryOperator<String> text;
+
+        /**
+         * @param applies further restricts the matched invocations, such as by the type of their receiver
+         * @param marker  the part of the comment which identifies a comment added before
+         * @param text    the comment text for an invocation at the given indentation
+         */
+        Rule(String declaringType, String methodName, String arguments,
+             BiPredicate<J.MethodInvocation, ExecutionContext> applies,
+             String marker, UnaryOperator<String> text) {
+            this.methodName = methodName;
+            this.matcher = new MethodMatcher(declaringType + " " + methodName + arguments, true);
+            this.applies = applies;
+            this.marker = marker;
+            this.text = text;
+        }
+
+        /**
+         * A rule adding the comment on a single line before every matched invocation.
+         */
+        static Rule comment(String declaringType, String methodName, String arguments, String comment) {
+            String text = " " + comment + " ";
+            return new Rule(declaringType, methodName, arguments, (m, ctx) -> true, comment, indent -> text);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.JavaType.FullyQualified;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+/**
+ * Removes feature flag configurations that set a feature to its Jackson 3 default, for a whole
+ * table of features at once. Java sources are handled in a single traversal that looks up the
+ * enum constant passed to {@code enable}, {@code disable} and {@code configure}. Properties and
+ * YAML files are scanned once for {@code spring.jackson.mapper.*} keys, and only the redundant
+ * keys that are actually present are deleted.
+ */
+class RedundantFeatureFlagsVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    private static final String OBJECT_MAPPER_TYPE = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final MethodMatcher ENABLE_MATCHER = new MethodMatcher(OBJECT_MAPPER_TYPE + " enable(..)");
+    private static final MethodMatcher DISABLE_MATCHER = new MethodMatcher(OBJECT_MAPPER_TYPE + " disable(..)");
+    private static final MethodMatcher CONFIGURE_MATCHER = new MethodMatcher(OBJECT_MAPPER_TYPE + " configure(..)");
+    private static final String OBJECT_MAPPER_BUILDER_TYPE = "com.fasterxml.jackson.databind.cfg.MapperBuilder";
+    private static final MethodMatcher BUILDER_ENABLE_MATCHER = new MethodMatcher(OBJECT_MAPPER_BUILDER_TYPE + " enable(..)");
+    private static final MethodMatcher BUILDER_DISABLE_MATCHER = new MethodMatcher(OBJECT_MAPPER_BUILDER_TYPE + " disable(..)");
+    private static final MethodMatcher BUILDER_CONFIGURE_MATCHER = new MethodMatcher(OBJECT_MAPPER_BUILDER_TYPE + " configure(..)");
+
+    private static final String PROPERTY_PREFIX = "spring.jackson.mapper.";
+
+    /**
+     * New default values, keyed by constant name and then by the simple name of the enum declaring it.
+     */
+    private final Map<String, Map<String, Boolean>> newDefaultsByConstant = new HashMap<>();
+
+    /**
+     * New default values keyed by Spring Boot property key.
+     */
+    private final Map<String, Boolean> newDefaultsByPropertyKey = new LinkedHashMap<>();
+
+    private final TreeVisitor<?, ExecutionContext> javaVisitor;
+
+    /**
+     * @param newDefaults new Jackson 3 default values, keyed by feature name in the format {@code ClassName.FEATURE_NAME}
+     */
+    RedundantFeatureFlagsVisitor(Map<String, Boolean> newDefaults) {
+        for (Map.Entry<String, Boolean> entry : newDefaults.entrySet()) {
+            String[] feature = entry.getKey().split("\\.");
+            newDefaultsByConstant.computeIfAbsent(feature[1], k -> new HashMap<>(2)).put(feature[0], entry.getValue());
+            newDefaultsByPropertyKey.put(PROPERTY_PREFIX + feature[1], entry.getValue());
+        }
+        this.javaVisitor = newJavaVisitor();
+    }
+
+    @Override
+    public Tree preVisit(Tree tree, ExecutionContext ctx) {
+        stopAfterPreVisit();
+
+        if (tree instanceof Properties.File) {
+            return deleteProperties(redundantProperties((Properties.File) tree), tree, ctx);
+        }
+
+        if (tree instanceof Yaml.Documents) {
+            return deleteYamlProperties(redundantYamlProperties((Yaml.Documents) tree), tree, ctx);
+        }
+
+        if (tree instanceof SourceFile && javaVisitor.isAcceptable((SourceFile) tree, ctx)) {
+            return javaVisitor.visitNonNull(tree, ctx);
+        }
+
+        return tree;
+    }
+
+    private TreeVisitor<?, ExecutionContext> newJavaVisitor() {
+        return Preconditions.check(
+                JacksonUsage.usesMethod(
+                        ENABLE_MATCHER,
+                        BUILDER_ENABLE_MATCHER,
+                        DISABLE_MATCHER,
+                        BUILDER_DISABLE_MATCHER,
+                        CONFIGURE_MATCHER,
+                        BUILDER_CONFIGURE_MATCHER),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        if (shouldRemove(method)) {
+                            maybeRemoveFeatureImport(method.getArguments().get(0));
+                            // If it's part of a chain (method call or new X()), return the select; otherwise remove the statement
+                            if (method.getSelect() instanceof J.MethodInvocation || method.getSelect() instanceof J.NewClass) {
+                                J visited = visit(method.getSelect(), ctx);
+                                return visited != null ? visited.withPrefix(method.getPrefix()) : null;
+                            }
+                            return null;
+                        }
+                        return super.visitMethodInvocation(method, ctx);
+                    }
+
+                    private void maybeRemoveFeatureImport(Expression arg) {
+                        if (arg instanceof J.FieldAccess && ((J.FieldAccess) arg).getTarget().getType() instanceof FullyQualified) {
+                            maybeRemoveImport((FullyQualified) ((J.FieldAccess) arg).getTarget().getType());
+                        } else if (arg instanceof J.Identifier) {
+                            J.Identifier identifier = (J.Identifier) arg;
+                            if (identifier.getFieldType() != null && identifier.getFieldType().getOwner() instanceof FullyQualified) {
+                                maybeRemoveImport((FullyQualified) identifier.getFieldType().getOwner());
+                            }
+                        }
+                    }
+                });
+    }
+
+    private boolean shouldRemove(J.MethodInvocation mi) {
+        if (ENABLE_MATCHER.matches(mi) || BUILDER_ENABLE_MATCHER.matches(mi)) {
+            // Remove enable() if the new default is true
+            return Boolean.TRUE.equals(newDefaultFor(mi.getArguments().get(0)));
+        }
+        if (DISABLE_MATCHER.matches(mi) || BUILDER_DISABLE_MATCHER.matches(mi)) {
+            // Remove disable() if the new default is false
+            return Boolean.FALSE.equals(newDefaultFor(mi.getArguments().get(0)));
+        }
+        if (CONFIGURE_MATCHER.matches(mi) || BUILDER_CONFIGURE_MATCHER.matches(mi)) {
+            // configure() takes two arguments: feature and boolean value
+            if (mi.getArguments().size() != 2) {
+                return false;
+            }
+            Boolean newDefault = newDefaultFor(mi.getArguments().get(0));
+            return newDefault != null && J.Literal.isLiteralValue(mi.getArguments().get(1), newDefault);
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the new default of the feature constant passed as argument, preferring the
+     * attributed field type and falling back to the source text when type information is missing.
+     */
+    private @Nullable Boolean newDefaultFor(Expression arg) {
+        JavaType.Variable fieldType = null;
+        if (arg instanceof J.FieldAccess) {
+            fieldType = ((J.FieldAccess) arg).getName().getFieldType();
+        } else if (arg instanceof J.Identifier) {
+            fieldType = ((J.Identifier) arg).getFieldType();
+        }
+        if (fieldType != null && fieldType.getOwner() instanceof FullyQualified) {
+            return newDefault(((FullyQualified) fieldType.getOwner()).getClassName(), fieldType.getName());
+        }
+        if (arg instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) arg;
+            if (fieldAccess.getTarget() instanceof J.Identifier) {
+                return newDefault(((J.Identifier) fieldAccess.getTarget()).getSimpleName(), fieldAccess.getSimpleName());
+            } else if (fieldAccess.getTarget() instanceof J.FieldAccess) {
+                // Handle fully-qualified access like com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+                return newDefault(((J.FieldAccess) fieldAccess.getTarget()).getSimpleName(), fieldAccess.getSimpleName());
+            }
+        }
+        return null;
+    }
+
+    private @Nullable Boolean newDefault(String className, String constantName) {
+        Map<String, Boolean> byClassName = newDefaultsByConstant.get(constantName);
+        if (byClassName == null) {
+            return null;
+        }
+        // Nested enums such as `ToXmlGenerator.Feature` are keyed by their innermost name
+        return byClassName.get(className.substring(className.lastIndexOf('.') + 1));
+    }
+
+    private boolean isRedundant(String propertyKey, String value) {
+        Boolean newDefault = newDefaultsByPropertyKey.get(propertyKey);
+        // Only remove if it does not hold the old default value
+        return newDefault != null && !String.valueOf(!newDefault).equals(value.trim());
+    }
+
+    private Set<String> redundantProperties(Properties.File file) {
+        Set<String> redundant = new LinkedHashSet<>();
+        new PropertiesIsoVisitor<Set<String>>() {
+            @Override
+            public Properties.Entry visitEntry(Properties.Entry entry, Set<String> keys) {
+                if (isRedundant(entry.getKey(), entry.getValue().getText())) {
+                    keys.add(entry.getKey());
+                }
+                return entry;
+            }
+        }.visit(file, redundant);
+        return redundant;
+    }
+
+    private Set<String> redundantYamlProperties(Yaml.Documents documents) {
+        Set<String> redundant = new LinkedHashSet<>();
+        new YamlIsoVisitor<Set<String>>() {
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, Set<String> keys) {
+                Yaml.Mapping.Entry e = super.visitMappingEntry(entry, keys);
+                if (e.getValue() instanceof Yaml.Scalar) {
+                    String propertyKey = propertyKey(e);
+                    if (isRedundant(propertyKey, ((Yaml.Scalar) e.getValue()).getValue())) {
+                        keys.add(propertyKey);
+                    }
+                }
+                return e;
+            }
+
+            private String propertyKey(Yaml.Mapping.Entry entry) {
+                Deque<String> segments = new ArrayDeque<>();
+                segments.push(entry.getKey().getValue());
+                for (Cursor c = getCursor().getParentOrThrow(); c != null; c = c.getParent()) {
+                    if (c.getValue() instanceof Yaml.Mapping.Entry) {
+                        segments.push(((Yaml.Mapping.Entry) c.getValue()).getKey().getValue());
+                    }
+                }
+                return String.join(".", segments);
+            }
+        }.visit(documents, redundant);
+        return redundant;
+    }
+
+    private static Tree deleteProperties(Set<String> keys, Tree tree, ExecutionContext ctx) {
+        Tree t = tree;
+        for (String key : keys) {
+            t = new org.openrewrite.properties.DeleteProperty(key, false).getVisitor().visitNonNull(t, ctx);
+        }
+        return t;
+    }
+
+    private static Tree deleteYamlProperties(Set<String> keys, Tree tree, ExecutionContext ctx) {
+        Tree t = tree;
+        for (String key : keys) {
+            t = new org.openrewrite.yaml.DeleteProperty(key, false, null, null).getVisitor().visitNonNull(t, ctx);
+        }
+        return t;
+    }
+}
@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -62,7 +61,7 @@ public class RemoveBuiltInModuleRegistrations extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(REGISTER_MODULE), new UsesMethod<>(ADD_MODULE)), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(JacksonUsage.usesMethod(REGISTER_MODULE, ADD_MODULE), new JavaVisitor<ExecutionContext>() {
                     @Override
                     public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         if ((REGISTER_MODULE.matches(method) || ADD_MODULE.matches(method)) &&
@@ -81,7 +80,7 @@ public class RemoveBuiltInModuleRegistrations extends Recipe {
                         // Remove methods called on built-in module instances
                         if (method.getSelect() != null) {
                             for (String module : BUILT_IN_MODULES) {
-                                if (TypeUtils.isAssignableTo(module, method.getSelect().getType())) {
+                                if (AssignabilityCache.isAssignableTo(module, method.getSelect().getType(), ctx)) {
                                     // Remove any imports associated with the method arguments
                                     for (JavaType.FullyQualified type : new JavaIsoVisitor<Set<JavaType.FullyQualified>>() {
                                         @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class RemoveRedundantJackson3FeatureFlags extends Recipe {
+
+    private static final Map<String, Boolean> NEW_DEFAULTS;
+
+    static {
+        Map<String, Boolean> newDefaults = new LinkedHashMap<>();
+        // Features enabled by default in Jackson 3 (changed from false to true)
+        newDefaults.put("MapperFeature.SORT_PROPERTIES_ALPHABETICALLY", true);
+        newDefaults.put("DeserializationFeature.READ_ENUMS_USING_TO_STRING", true);
+        newDefaults.put("DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES", true);
+        newDefaults.put("DeserializationFeature.FAIL_ON_TRAILING_TOKENS", true);
+        newDefaults.put("SerializationFeature.WRITE_ENUMS_USING_TO_STRING", true);
+        newDefaults.put("CBORReadFeature.DECODE_USING_STANDARD_NEGATIVE_BIGINT_ENCODING", true);
+        newDefaults.put("CBORReadFeature.READ_UNDEFINED_AS_EMBEDDED_OBJECT", true);
+        newDefaults.put("CBORReadFeature.READ_SIMPLE_VALUE_AS_EMBEDDED_OBJECT", true);
+        newDefaults.put("CBORWriteFeature.ENCODE_USING_STANDARD_NEGATIVE_BIGINT_ENCODING", true);
+        newDefaults.put("XmlWriteFeature.UNWRAP_ROOT_OBJECT_NODE", true);
+        newDefaults.put("XmlWriteFeature.WRITE_NULLS_AS_XSI_NIL", true);
+        newDefaults.put("XmlWriteFeature.AUTO_DETECT_XSI_TYPE", true);
+        newDefaults.put("XmlWriteFeature.WRITE_XML_SCHEMA_CONFORMING_FLOATS", true);
+
+        // Features disabled by default in Jackson 3 (changed from true to false)
+        newDefaults.put("MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS", false);
+        newDefaults.put("MapperFeature.DEFAULT_VIEW_INCLUSION", false);
+        newDefaults.put("MapperFeature.USE_GETTERS_AS_SETTERS", false);
+        newDefaults.put("DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES", false);
+        newDefaults.put("SerializationFeature.FAIL_ON_EMPTY_BEANS", false);
+        newDefaults.put("SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS", false);
+        newDefaults.put("SerializationFeature.WRITE_DATES_AS_TIMESTAMPS", false);
+        NEW_DEFAULTS = unmodifiableMap(newDefaults);
+    }
+
+    final String displayName = "Remove redundant Jackson 3 feature flag configurations";
+
+    final String description = "Remove `ObjectMapper` feature flag configurations and `spring.jackson.mapper` properties " +
+            "that set features to their new Jackson 3 defaults. All features are checked in a single pass over " +
+            "each Java, properties and YAML source file.";
+
+    final Set<String> tags = singleton("jackson-3");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new RedundantFeatureFlagsVisitor(NEW_DEFAULTS);
+    }
+}
@@ -24,8 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -52,7 +50,7 @@ public class RemoveRedundantJsonPropertyValue extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_PROPERTY, false),
+                JacksonUsage.usesType(JACKSON_JSON_PROPERTY),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -67,12 +65,7 @@ public class RemoveRedundantJsonPropertyValue extends Recipe {
                                     return modifiedAnnotation;
                                 }
                                 // Schedule annotation removal after this pass
-                                doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + JACKSON_JSON_PROPERTY) {
-                                    @Override
-                                    public boolean matches(J.Annotation annotation) {
-                                        return annotation == a;
-                                    }
-                                }));
+                                AnnotationRemovals.remove(this, a);
                                 maybeRemoveImport(JACKSON_JSON_PROPERTY);
                                 return a;
                             }
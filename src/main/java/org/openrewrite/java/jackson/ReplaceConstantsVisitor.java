@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces references to constants according to a table of fully qualified old to new constant
+ * names, such as {@code a.b.Owner.CONSTANT}. Qualified references, fully qualified references and
+ * statically imported references are all resolved against the same map, keyed on the owner and
+ * name of the referenced field, and imports are updated accordingly. Source files whose
+ * {@link TypesInUse} contain none of the old constants are returned untouched.
+ */
+public class ReplaceConstantsVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    private final Map<String, Replacement> replacements = new HashMap<>();
+
+    public ReplaceConstantsVisitor(Map<String, String> oldToNewConstants) {
+        for (Map.Entry<String, String> entry : oldToNewConstants.entrySet()) {
+            replacements.put(ChangeTypesVisitor.normalize(entry.getKey()), new Replacement(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        return sourceFile instanceof JavaSourceFile;
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (tree instanceof JavaSourceFile) {
+            for (JavaType.Variable variable : ((JavaSourceFile) tree).getTypesInUse().getVariables()) {
+                if (replacementFor(variable) != null) {
+                    return new Replacer().visit(tree, ctx);
+                }
+            }
+        }
+        return tree;
+    }
+
+    private @Nullable Replacement replacementFor(JavaType.@Nullable Variable fieldType) {
+        if (fieldType == null) {
+            return null;
+        }
+        JavaType.FullyQualified owner = TypeUtils.asFullyQualified(fieldType.getOwner());
+        if (owner == null) {
+            return null;
+        }
+        return replacements.get(ChangeTypesVisitor.normalize(owner.getFullyQualifiedName()) + "." + fieldType.getName());
+    }
+
+    private class Replacer extends JavaVisitor<ExecutionContext> {
+        @Override
+        public J visitImport(J.Import _import, ExecutionContext ctx) {
+            // imports are updated through maybeAddImport and maybeRemoveImport
+            return _import;
+        }
+
+        @Override
+        public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+            J j = super.visitFieldAccess(fieldAccess, ctx);
+            if (!(j instanceof J.FieldAccess)) {
+                return j;
+            }
+            J.FieldAccess fa = (J.FieldAccess) j;
+            JavaType.Variable fieldType = fa.getName().getFieldType();
+            Replacement replacement = replacementFor(fieldType);
+            if (fieldType == null || replacement == null) {
+                return fa;
+            }
+            J.Identifier name = fa.getName()
+                    .withSimpleName(replacement.newName)
+                    .withFieldType(replacement.newFieldType(fieldType));
+            if (!replacement.isOwnerChanged()) {
+                return fa.withName(name);
+            }
+
+            Expression target = fa.getTarget();
+            if (target instanceof J.Identifier) {
+                target = ((J.Identifier) target)
+                        .withSimpleName(replacement.newOwnerType.getClassName())
+                        .withType(replacement.newOwnerType);
+                maybeAddImport(replacement.newOwner);
+            } else if (target instanceof J.FieldAccess) {
+                target = ((J.FieldAccess) TypeTree.build(replacement.newOwner))
+                        .withType(replacement.newOwnerType)
+                        .withPrefix(target.getPrefix());
+            } else {
+                return fa;
+            }
+            maybeRemoveImport(replacement.oldOwner);
+            return fa.withTarget(target).withName(name.withType(replacement.newOwnerType)).withType(replacement.newOwnerType);
+        }
+
+        @Override
+        public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+            J.Identifier id = (J.Identifier) super.visitIdentifier(identifier, ctx);
+            JavaType.Variable fieldType = id.getFieldType();
+            Replacement replacement = replacementFor(fieldType);
+            if (fieldType == null || replacement == null) {
+                return id;
+            }
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier) {
+                // handled by visitFieldAccess
+                return id;
+            }
+            // only a statically imported constant needs its import replaced, an enum constant in a `case` label
+            // or a constant inherited by the current class is renamed in place
+            if (isStaticallyImported(replacement)) {
+                maybeRemoveImport(replacement.oldOwner + "." + replacement.oldName);
+                maybeAddImport(replacement.newOwner, replacement.newName);
+            }
+            J.Identifier renamed = id.withSimpleName(replacement.newName).withFieldType(replacement.newFieldType(fieldType));
+            return replacement.isOwnerChanged() ? renamed.withType(replacement.newOwnerType) : renamed;
+        }
+
+        private boolean isStaticallyImported(Replacement replacement) {
+            JavaSourceFile sourceFile = getCursor().firstEnclosing(JavaSourceFile.class);
+            if (sourceFile == null) {
+                return false;
+            }
+            for (J.Import anImport : sourceFile.getImports()) {
+                if (anImport.isStatic() &&
+                    ChangeTypesVisitor.normalize(anImport.getTypeName()).equals(ChangeTypesVisitor.normalize(replacement.oldOwner))) {
+                    String name = anImport.getQualid().getSimpleName();
+                    if ("*".equals(name) || replacement.oldName.equals(name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Replacement {
+        final String oldOwner;
+        final String oldName;
+        final String newOwner;
+        final String newName;
+        final JavaType.FullyQualified newOwnerType;
+
+        Replacement(String oldConstant, String newConstant) {
+            this.oldOwner = oldConstant.substring(0, oldConstant.lastIndexOf('.'));
+            this.oldName = oldConstant.substring(oldConstant.lastIndexOf('.') + 1);
+            this.newOwner = newConstant.substring(0, newConstant.lastIndexOf('.'));
+            this.newName = newConstant.substring(newConstant.lastIndexOf('.') + 1);
+            this.newOwnerType = JavaType.ShallowClass.build(newOwner);
+        }
+
+        boolean isOwnerChanged() {
+            return !oldOwner.equals(newOwner);
+        }
+
+        JavaType.Variable newFieldType(JavaType.Variable fieldType) {
+            JavaType.Variable renamed = fieldType.withName(newName);
+            return isOwnerChanged() ? renamed.withOwner(newOwnerType).withType(newOwnerType) : renamed;
+        }
+    }
+}
@@ -21,7 +21,6 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -55,7 +54,7 @@ public class ReplaceJsonIgnoreWithJsonSetter extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_IGNORE, false),
+                JacksonUsage.usesType(JACKSON_JSON_IGNORE),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
@@ -90,29 +89,17 @@ public class ReplaceJsonIgnoreWithJsonSetter extends Recipe {
                         }
 
                         // Remove @JsonIgnore
-                        final J.Annotation toRemove = jsonIgnoreAnnotation;
-                        doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + JACKSON_JSON_IGNORE) {
-                            @Override
-                            public boolean matches(J.Annotation ann) {
-                                return ann == toRemove;
-                            }
-                        }));
+                        AnnotationRemovals.remove(this, jsonIgnoreAnnotation);
                         maybeRemoveImport(JACKSON_JSON_IGNORE);
 
                         // Add @JsonSetter(nulls = Nulls.AS_EMPTY)
                         maybeAddImport(JACKSON_JSON_SETTER);
                         maybeAddImport(JACKSON_NULLS);
 
-                        return JavaTemplate
-                                .builder("@JsonSetter(nulls = Nulls.AS_EMPTY)")
-                                .imports(JACKSON_JSON_SETTER, JACKSON_NULLS)
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "jackson-annotations-2"))
-                                .build()
-                                .apply(
-                                        getCursor(),
-                                        vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName))
-                                );
+                        return AnnotationPrototypes.addAnnotation(this, vd,
+                                AnnotationPrototypes.annotation("@JsonSetter(nulls = Nulls.AS_EMPTY)", "jackson-annotations-2",
+                                        new String[]{JACKSON_JSON_SETTER, JACKSON_NULLS}, ctx),
+                                Comparator.comparing(J.Annotation::getSimpleName), getCursor().getParentOrThrow(), ctx);
                     }
 
                     private boolean isMapOrCollectionType(JavaType type) {
@@ -22,10 +22,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -46,7 +43,7 @@ public class ReplaceObjectMapperCopy extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesMethod<>(COPY_MATCHER),
+                JacksonUsage.usesMethod(COPY_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -54,9 +51,9 @@ public class ReplaceObjectMapperCopy extends Recipe {
                         if (!COPY_MATCHER.matches(mi) || mi.getSelect() == null) {
                             return mi;
                         }
-                        return JavaTemplate
-                                .builder("#{any(tools.jackson.databind.ObjectMapper)}.rebuild().build()")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-3", "jackson-databind-3"))
+                        return JavaTemplateCache
+                                .template("#{any(tools.jackson.databind.ObjectMapper)}.rebuild().build()", ctx)
+                                .classpathFromResources("jackson-core-3", "jackson-databind-3")
                                 .build()
                                 .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
                     }
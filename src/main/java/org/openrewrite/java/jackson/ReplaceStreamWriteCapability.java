@@ -20,11 +20,8 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -50,10 +47,7 @@ public class ReplaceStreamWriteCapability extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(CAN_WRITE_BINARY_NATIVELY),
-                        new UsesMethod<>(CAN_WRITE_FORMATTED_NUMBERS)
-                ),
+                JacksonUsage.usesMethod(CAN_WRITE_BINARY_NATIVELY, CAN_WRITE_FORMATTED_NUMBERS),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -61,18 +55,18 @@ public class ReplaceStreamWriteCapability extends Recipe {
 
                         if (CAN_WRITE_BINARY_NATIVELY.matches(mi)) {
                             maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
-                            return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)")
+                            return JavaTemplateCache.template("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)", ctx)
                                     .imports("com.fasterxml.jackson.core.StreamWriteCapability")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-2.+"))
+                                    .classpathFromResources("jackson-core-2.+")
                                     .build()
                                     .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
                         }
 
                         if (CAN_WRITE_FORMATTED_NUMBERS.matches(mi)) {
                             maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
-                            return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_FORMATTED_NUMBERS)")
+                            return JavaTemplateCache.template("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_FORMATTED_NUMBERS)", ctx)
                                     .imports("com.fasterxml.jackson.core.StreamWriteCapability")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-2.+"))
+                                    .classpathFromResources("jackson-core-2.+")
                                     .build()
                                     .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
                         }
@@ -62,7 +62,7 @@ public class SimplifyJacksonExceptionCatch extends Recipe {
                         }
 
                         List<NameTree> filtered = ListUtils.filter(mc.getAlternatives(), nt -> {
-                            if (TypeUtils.isAssignableTo(JACKSON_RUNTIME_EXCEPTION, nt.getType())) {
+                            if (AssignabilityCache.isAssignableTo(JACKSON_RUNTIME_EXCEPTION, nt.getType(), ctx)) {
                                 maybeRemoveImport(TypeUtils.asFullyQualified(nt.getType()));
                                 return false;
                             }
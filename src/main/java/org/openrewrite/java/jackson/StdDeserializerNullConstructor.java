@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -50,9 +49,7 @@ public class StdDeserializerNullConstructor extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(STD_DESER_CONSTRUCTOR),
-                        new UsesMethod<>(ANY_STD_DESER_SUBCLASS_CONSTRUCTOR)),
+                JacksonUsage.usesMethod(STD_DESER_CONSTRUCTOR, ANY_STD_DESER_SUBCLASS_CONSTRUCTOR),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -61,7 +58,7 @@ public class StdDeserializerNullConstructor extends Recipe {
                         // Match super(null) on StdDeserializer or this(null) on a subclass
                         if (!STD_DESER_CONSTRUCTOR.matches(mi) &&
                                 !(ANY_STD_DESER_SUBCLASS_CONSTRUCTOR.matches(mi) &&
-                                        isInStdDeserializerSubclass())) {
+                                        isInStdDeserializerSubclass(ctx))) {
                             return mi;
                         }
 
@@ -81,10 +78,10 @@ public class StdDeserializerNullConstructor extends Recipe {
                         return JavaTemplate.apply(className + ".class", getCursor(), mi.getCoordinates().replaceArguments());
                     }
 
-                    private boolean isInStdDeserializerSubclass() {
+                    private boolean isInStdDeserializerSubclass(ExecutionContext ctx) {
                         J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
                         return classDecl != null && classDecl.getType() != null &&
-                                TypeUtils.isAssignableTo(STD_DESERIALIZER, classDecl.getType());
+                                AssignabilityCache.isAssignableTo(STD_DESERIALIZER, classDecl.getType(), ctx);
                     }
 
                     private boolean isNullLiteral(Expression expr) {
@@ -22,10 +22,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JRightPadded;
@@ -69,7 +66,7 @@ public class UpdateAutoDetectVisibilityConfiguration extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesMethod<>(MAPPER_BUILDER_DISABLE_MATCHER),
+                JacksonUsage.usesMethod(MAPPER_BUILDER_DISABLE_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -85,11 +82,10 @@ public class UpdateAutoDetectVisibilityConfiguration extends Recipe {
                         if (visibilityMethod == null) {
                             return mi;
                         }
-                        J.MethodInvocation result = JavaTemplate
-                                .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultVisibility(vc -> vc." +
-                                        visibilityMethod + "(com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE))")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                                        "jackson-annotations-2", "jackson-core-3", "jackson-databind-3"))
+                        J.MethodInvocation result = JavaTemplateCache
+                                .template("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultVisibility(vc -> vc." +
+                                        visibilityMethod + "(com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE))", ctx)
+                                .classpathFromResources("jackson-annotations-2", "jackson-core-3", "jackson-databind-3")
                                 .build()
                                 .apply(
                                         getCursor(),
@@ -21,10 +21,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JRightPadded;
 import org.openrewrite.java.tree.JavaType;
@@ -54,24 +51,22 @@ public class UpdateSerializationInclusionConfiguration extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER),
-                        new UsesMethod<>(MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER),
-                        new UsesMethod<>(MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER),
-                        new UsesMethod<>(OBJECT_MAPPER_SET_SERIALIZATION_INCLUSION_MATCHER)
-                ),
+                JacksonUsage.usesMethod(
+                        MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER,
+                        MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER,
+                        MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER,
+                        OBJECT_MAPPER_SET_SERIALIZATION_INCLUSION_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
                         if (MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER.matches(mi) ||
                                 MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER.matches(mi)) {
-                            J.MethodInvocation result = JavaTemplate
-                                    .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> incl" +
+                            J.MethodInvocation result = JavaTemplateCache
+                                    .template("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> incl" +
                                             ".withContentInclusion(#{any(com.fasterxml.jackson.annotation.JsonInclude.Include)})" +
-                                            ".withValueInclusion(#{any(com.fasterxml.jackson.annotation.JsonInclude.Include)}))")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                                            "jackson-annotations-2", "jackson-core-3", "jackson-databind-3"))
+                                            ".withValueInclusion(#{any(com.fasterxml.jackson.annotation.JsonInclude.Include)}))", ctx)
+                                    .classpathFromResources("jackson-annotations-2", "jackson-core-3", "jackson-databind-3")
                                     .build()
                                     .apply(
                                             getCursor(),
@@ -83,10 +78,9 @@ public class UpdateSerializationInclusionConfiguration extends Recipe {
                             return fixKotlinLambdaParameterTypeAndBodySpacing(result);
                         }
                         if (MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER.matches(mi)) {
-                            J.MethodInvocation result = JavaTemplate
-                                    .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> #{any(com.fasterxml.jackson.annotation.JsonInclude.Value)})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                                            "jackson-annotations-2", "jackson-core-3", "jackson-databind-3"))
+                            J.MethodInvocation result = JavaTemplateCache
+                                    .template("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> #{any(com.fasterxml.jackson.annotation.JsonInclude.Value)})", ctx)
+                                    .classpathFromResources("jackson-annotations-2", "jackson-core-3", "jackson-databind-3")
                                     .build()
                                     .apply(
                                             getCursor(),
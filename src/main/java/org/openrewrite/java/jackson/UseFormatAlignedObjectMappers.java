@@ -21,10 +21,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 
 import java.util.HashMap;
@@ -57,14 +54,14 @@ public class UseFormatAlignedObjectMappers extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, false), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(JacksonUsage.usesType(OBJECT_MAPPER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = super.visitNewClass(newClass, ctx);
 
                 if (OBJECT_MAPPER_NO_ARG.matches(nc)) {
                     maybeAddImport(JSON_MAPPER);
-                    return replaceWithMapper(nc, JSON_MAPPER);
+                    return replaceWithMapper(nc, JSON_MAPPER, ctx);
                 }
 
                 if (!OBJECT_MAPPER_FACTORY.matches(nc)) {
@@ -76,23 +73,23 @@ public class UseFormatAlignedObjectMappers extends Recipe {
                 if (target != null) {
                     maybeRemoveImport(source);
                     maybeAddImport(target);
-                    return replaceWithMapper(nc, target);
+                    return replaceWithMapper(nc, target, ctx);
                 }
 
                 return nc; // unsupported factory type
             }
 
-            private J.NewClass replaceWithMapper(J.NewClass nc, String target) {
+            private J.NewClass replaceWithMapper(J.NewClass nc, String target, ExecutionContext ctx) {
                 int lastDotIndex = target.lastIndexOf('.');
                 String packageName = target.substring(0, lastDotIndex);
                 String simpleName = target.substring(lastDotIndex + 1);
-                return JavaTemplate.builder("new " + target + "()")
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                return JavaTemplateCache.template("new " + target + "()", ctx)
+                        .dependsOn(
                                 "package " + packageName + ";\n" +
                                         "public class " + simpleName + " extends com.fasterxml.jackson.databind.ObjectMapper {\n" +
                                         "    public " + simpleName + "() {}\n" +
                                         "}\n"
-                        ))
+                        )
                         .build()
                         .apply(getCursor(), nc.getCoordinates().replace());
             }
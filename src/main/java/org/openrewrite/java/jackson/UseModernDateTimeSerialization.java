@@ -22,8 +22,6 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -72,7 +70,7 @@ public class UseModernDateTimeSerialization extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_FORMAT, false),
+                JacksonUsage.usesType(JACKSON_JSON_FORMAT),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
@@ -86,12 +84,7 @@ public class UseModernDateTimeSerialization extends Recipe {
                         // Check for @JsonFormat annotations with ISO-8601 patterns
                         for (J.Annotation annotation : vd.getLeadingAnnotations()) {
                             if (JSON_FORMAT_MATCHER.matches(annotation) && isRedundantIso8601Format(annotation)) {
-                                doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + JACKSON_JSON_FORMAT) {
-                                    @Override
-                                    public boolean matches(J.Annotation ann) {
-                                        return ann == annotation;
-                                    }
-                                }));
+                                AnnotationRemovals.remove(this, annotation);
                                 maybeRemoveImport(JACKSON_JSON_FORMAT);
                             }
                         }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.jackson.ChangePackagesVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class CodehausPackagesToFasterXML extends Recipe {
+
+    static final Map<String, String> PACKAGE_CHANGES;
+
+    static {
+        Map<String, String> packageChanges = new LinkedHashMap<>();
+        packageChanges.put("org.codehaus.jackson.annotate", "com.fasterxml.jackson.annotation");
+        packageChanges.put("org.codehaus.jackson.map.ext", "com.fasterxml.jackson.databind.ext");
+        packageChanges.put("org.codehaus.jackson.map.ser", "com.fasterxml.jackson.databind.ser");
+        PACKAGE_CHANGES = unmodifiableMap(packageChanges);
+    }
+
+    final String displayName = "Migrate packages from Jackson Codehaus (legacy) to Jackson FasterXML";
+
+    final String description = "Change the `org.codehaus.jackson` annotation, serializer and extension packages to their FasterXML " +
+            "Jackson 2 equivalents in a single pass over each source file.";
+
+    final Set<String> tags = singleton("jackson-2");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new ChangePackagesVisitor(PACKAGE_CHANGES);
+    }
+}
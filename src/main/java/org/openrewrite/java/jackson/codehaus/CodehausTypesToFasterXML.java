@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ShortenFullyQualifiedTypeReferences;
+import org.openrewrite.java.jackson.ChangePackagesVisitor;
+import org.openrewrite.java.jackson.ChangeTypesVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableMap;
+
+@Getter
+public class CodehausTypesToFasterXML extends Recipe {
+
+    /**
+     * Codehaus type to FasterXML type, in the order the changes are applied.
+     */
+    private static final Map<String, String> TYPE_CHANGES;
+
+    static {
+        Map<String, String> typeChanges = new LinkedHashMap<>();
+        typeChanges.put("org.codehaus.jackson.map.JsonSerializer", "com.fasterxml.jackson.databind.JsonSerializer");
+        typeChanges.put("org.codehaus.jackson.map.annotate.JsonSerialize$Inclusion", "com.fasterxml.jackson.annotation.JsonInclude$Include");
+        typeChanges.put("org.codehaus.jackson.map.annotate.JsonSerialize", "com.fasterxml.jackson.databind.annotation.JsonSerialize");
+        typeChanges.put("org.codehaus.jackson.map.AnnotationIntrospector", "com.fasterxml.jackson.databind.AnnotationIntrospector");
+        typeChanges.put("org.codehaus.jackson.xc.JaxbAnnotationIntrospector", "com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector");
+        typeChanges.put("org.codehaus.jackson.map.introspect.JacksonAnnotationIntrospector", "com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector");
+        typeChanges.put("org.codehaus.jackson.map.AnnotationIntrospector.Pair", "com.fasterxml.jackson.databind.introspect.AnnotationIntrospectorPair");
+        typeChanges.put("org.codehaus.jackson.map.introspect.NopAnnotationIntrospector", "com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector");
+        typeChanges.put("org.codehaus.jackson.map.ObjectMapper", "com.fasterxml.jackson.databind.ObjectMapper");
+        typeChanges.put("org.codehaus.jackson.map.SerializationConfig$Feature", "com.fasterxml.jackson.databind.SerializationFeature");
+        typeChanges.put("org.codehaus.jackson.map.DeserializationConfig$Feature", "com.fasterxml.jackson.databind.DeserializationFeature");
+        TYPE_CHANGES = unmodifiableMap(typeChanges);
+    }
+
+    final String displayName = "Migrate types from Jackson Codehaus (legacy) to Jackson FasterXML";
+
+    final String description = "Change the `org.codehaus.jackson` types and packages to their FasterXML Jackson 2 equivalents, " +
+            "and shorten fully qualified type references in the classes that were changed. " +
+            "Source files that reference no Codehaus types are left untouched.";
+
+    final Set<String> tags = singleton("jackson-2");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        ChangeTypesVisitor typeChanges = new ChangeTypesVisitor(TYPE_CHANGES);
+        ChangePackagesVisitor packageChanges = new ChangePackagesVisitor(CodehausPackagesToFasterXML.PACKAGE_CHANGES);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return sourceFile instanceof JavaSourceFile;
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                JavaSourceFile before = (JavaSourceFile) tree;
+                JavaSourceFile after = (JavaSourceFile) packageChanges.visitNonNull(typeChanges.visitNonNull(before, ctx), ctx);
+                if (after == before) {
+                    return after;
+                }
+                // trees are immutable, so only the classes holding a changed node are new instances
+                Set<J.ClassDeclaration> unchanged = newSetFromMap(new IdentityHashMap<>());
+                unchanged.addAll(before.getClasses());
+                for (J.ClassDeclaration classDecl : after.getClasses()) {
+                    if (!unchanged.contains(classDecl)) {
+                        after = (JavaSourceFile) ShortenFullyQualifiedTypeReferences.modifyOnly(classDecl).visitNonNull(after, ctx);
+                    }
+                }
+                return after;
+            }
+        };
+    }
+}
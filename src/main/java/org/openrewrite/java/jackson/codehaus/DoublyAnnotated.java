@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.*;
+
+/**
+ * Pairs each Codehaus {@code @JsonSerialize} annotation with the FasterXML {@code @JsonSerialize}
+ * annotation on the same element. The pairing of the most recently analyzed source file is kept in
+ * the {@link ExecutionContext}, so {@link RemoveDoublyAnnotatedCodehausAnnotations} and
+ * {@link TransferJsonSerializeArgumentsFromCodehausToFasterXML} share it for as long as neither
+ * of them has changed the file.
+ */
+final class DoublyAnnotated {
+
+    private static final String CTX_KEY = DoublyAnnotated.class.getName();
+
+    static final String CODEHAUS_JSON_SERIALIZE = "org.codehaus.jackson.map.annotate.JsonSerialize";
+    static final String FASTERXML_JSON_SERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+
+    private static final AnnotationMatcher MATCHER_CODEHAUS = new AnnotationMatcher("@" + CODEHAUS_JSON_SERIALIZE, true);
+    private static final AnnotationMatcher MATCHER_FASTERXML = new AnnotationMatcher("@" + FASTERXML_JSON_SERIALIZE, true);
+
+    private final JavaSourceFile sourceFile;
+
+    /**
+     * Map from Codehaus to FasterXML annotation.
+     */
+    private final Map<J.Annotation, J.Annotation> pairs = new HashMap<>();
+
+    /**
+     * The top level classes declaring the pairs.
+     */
+    private final Set<J.ClassDeclaration> classes = new LinkedHashSet<>();
+
+    private DoublyAnnotated(JavaSourceFile sourceFile) {
+        this.sourceFile = sourceFile;
+    }
+
+    /**
+     * @return the FasterXML annotation paired with each doubly annotated Codehaus annotation, which is empty
+     * when no element of the source file carries both
+     */
+    static Map<J.Annotation, J.Annotation> pairs(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        return Collections.unmodifiableMap(of(sourceFile, ctx).pairs);
+    }
+
+    /**
+     * @return the top level classes in which an element carries both annotations
+     */
+    static Set<J.ClassDeclaration> classes(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        return Collections.unmodifiableSet(of(sourceFile, ctx).classes);
+    }
+
+    private static DoublyAnnotated of(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        DoublyAnnotated analysis = ctx.getMessage(CTX_KEY);
+        // trees are immutable, so a pairing stays valid for as long as the source file is the same instance
+        if (analysis == null || analysis.sourceFile != sourceFile) {
+            analysis = new FindDoublyAnnotatedVisitor().reduce(sourceFile, new DoublyAnnotated(sourceFile));
+            ctx.putMessage(CTX_KEY, analysis);
+        }
+        return analysis;
+    }
+
+    private static class FindDoublyAnnotatedVisitor extends JavaIsoVisitor<DoublyAnnotated> {
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, DoublyAnnotated doublyAnnotated) {
+            J.Annotation a = super.visitAnnotation(annotation, doublyAnnotated);
+            if (MATCHER_CODEHAUS.matches(annotation)) {
+                // Find sibling fasterXMl annotation
+                service(AnnotationService.class)
+                        .getAllAnnotations(getCursor().getParentOrThrow())
+                        .stream()
+                        .filter(MATCHER_FASTERXML::matches)
+                        .findFirst()
+                        .ifPresent(fasterxml -> {
+                            doublyAnnotated.pairs.put(annotation, fasterxml);
+                            J.ClassDeclaration topLevelClass = null;
+                            for (Iterator<Object> path = getCursor().getPath(); path.hasNext(); ) {
+                                Object value = path.next();
+                                if (value instanceof J.ClassDeclaration) {
+                                    topLevelClass = (J.ClassDeclaration) value;
+                                }
+                            }
+                            if (topLevelClass != null) {
+                                doublyAnnotated.classes.add(topLevelClass);
+                            }
+                        });
+            }
+            return a;
+        }
+    }
+}
@@ -23,10 +23,9 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.AnnotationPrototypes;
+import org.openrewrite.java.jackson.JacksonUsage;
 import org.openrewrite.java.tree.J;
 
 import java.util.Comparator;
@@ -45,7 +44,7 @@ public class JsonIncludeAnnotation extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>(ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE, false),
+                JacksonUsage.usesType(ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE),
                 new IntroduceJsonIncludeVisitor());
     }
 
@@ -61,11 +60,8 @@ public class JsonIncludeAnnotation extends Recipe {
 
             // Add the new JsonInclude annotation with the include argument
             if (includeArgument.get() != null) {
-                cd = JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
-                        .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
-                        .build()
-                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                cd = AnnotationPrototypes.addAnnotation(this, cd, jsonInclude(includeArgument.get(), ctx),
+                        Comparator.comparing(J.Annotation::getSimpleName), getCursor().getParentOrThrow(), ctx);
                 maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
             }
 
@@ -83,11 +79,8 @@ public class JsonIncludeAnnotation extends Recipe {
 
             // Add the new JsonInclude annotation with the include argument
             if (includeArgument.get() != null) {
-                md = JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
-                        .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
-                        .build()
-                        .apply(updateCursor(md), md.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                md = AnnotationPrototypes.addAnnotation(this, md, jsonInclude(includeArgument.get(), ctx),
+                        Comparator.comparing(J.Annotation::getSimpleName), getCursor().getParentOrThrow(), ctx);
                 maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
             }
 
@@ -105,16 +98,18 @@ public class JsonIncludeAnnotation extends Recipe {
 
             // Add the new JsonInclude annotation with the include argument
             if (includeArgument.get() != null) {
-                vd = JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
-                        .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
-                        .build()
-                        .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                vd = AnnotationPrototypes.addAnnotation(this, vd, jsonInclude(includeArgument.get(), ctx),
+                        Comparator.comparing(J.Annotation::getSimpleName), getCursor().getParentOrThrow(), ctx);
                 maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
             }
             return vd;
         }
 
+        private J.Annotation jsonInclude(String includeArgument, ExecutionContext ctx) {
+            return AnnotationPrototypes.annotation("@JsonInclude(value = JsonInclude.Include." + includeArgument + ")",
+                    "jackson-annotations", new String[]{COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE}, ctx);
+        }
+
         private final AnnotationMatcher annotationMatcher = new AnnotationMatcher("@" + ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE, false);
 
         private J.@Nullable Annotation mapAnnotation(J.Annotation ann, AtomicReference<String> includeArgument) {
@@ -22,20 +22,16 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.jackson.JacksonUsage;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 
-import java.util.HashMap;
 import java.util.Map;
 
-public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
-
-    private static final String ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE = "org.codehaus.jackson.map.annotate.JsonSerialize";
-    private static final String COM_FASTERXML_JACKSON_DATABIND_ANNOTATION_JSON_SERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+import static org.openrewrite.java.jackson.codehaus.DoublyAnnotated.CODEHAUS_JSON_SERIALIZE;
+import static org.openrewrite.java.jackson.codehaus.DoublyAnnotated.FASTERXML_JSON_SERIALIZE;
 
-    private static final AnnotationMatcher MATCHER_CODEHAUS = new AnnotationMatcher("@" + ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE, true);
-    private static final AnnotationMatcher MATCHER_FASTERXML = new AnnotationMatcher("@" + COM_FASTERXML_JACKSON_DATABIND_ANNOTATION_JSON_SERIALIZE, true);
+public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
 
     @Getter
     final String displayName = "Remove Codehaus Jackson annotations if doubly annotated";
@@ -46,47 +42,38 @@ public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>(COM_FASTERXML_JACKSON_DATABIND_ANNOTATION_JSON_SERIALIZE, false),
+                JacksonUsage.usesType(FASTERXML_JSON_SERIALIZE),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J preVisit(@NonNull J tree, ExecutionContext ctx) {
                         stopAfterPreVisit();
+                        if (!(tree instanceof JavaSourceFile)) {
+                            return tree;
+                        }
 
                         // Map from codehaus -> fasterxml annotation
-                        Map<J.Annotation, J.Annotation> doubleAnnotated = new FindDoublyAnnotatedVisitor().reduce(tree, new HashMap<>());
+                        Map<J.Annotation, J.Annotation> doubleAnnotated = DoublyAnnotated.pairs((JavaSourceFile) tree, ctx);
+                        if (doubleAnnotated.isEmpty()) {
+                            return tree;
+                        }
 
                         AnnotationMatcher removeCodehausMatcher = new AnnotationMatcher(
                                 // ignored in practice, as we only match annotations previously found just above
-                                "@" + ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE, true) {
+                                "@" + CODEHAUS_JSON_SERIALIZE, true) {
                             @Override
                             public boolean matches(J.Annotation annotation) {
                                 return doubleAnnotated.containsKey(annotation);
                             }
                         };
                         doAfterVisit(new RemoveAnnotationVisitor(removeCodehausMatcher));
-                        maybeRemoveImport(ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE + ".Inclusion.*");
-                        maybeRemoveImport(ORG_CODEHAUS_JACKSON_MAP_ANNOTATE_JSON_SERIALIZE + ".Typing.*");
-                        doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(tree));
+                        maybeRemoveImport(CODEHAUS_JSON_SERIALIZE + ".Inclusion.*");
+                        maybeRemoveImport(CODEHAUS_JSON_SERIALIZE + ".Typing.*");
+                        // only the classes declaring a pair can hold references that become shorter once the Codehaus import is gone
+                        for (J.ClassDeclaration classDecl : DoublyAnnotated.classes((JavaSourceFile) tree, ctx)) {
+                            doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(classDecl));
+                        }
                         return tree;
                     }
                 });
     }
-
-    static class FindDoublyAnnotatedVisitor extends JavaIsoVisitor<Map<J.Annotation, J.Annotation>> {
-
-        @Override
-        public J.Annotation visitAnnotation(J.Annotation annotation, Map<J.Annotation, J.Annotation> doublyAnnotated) {
-            J.Annotation a = super.visitAnnotation(annotation, doublyAnnotated);
-            if (MATCHER_CODEHAUS.matches(annotation)) {
-                // Find sibling fasterXMl annotation
-                service(AnnotationService.class)
-                        .getAllAnnotations(getCursor().getParentOrThrow())
-                        .stream()
-                        .filter(MATCHER_FASTERXML::matches)
-                        .findFirst()
-                        .ifPresent(fasterxml -> doublyAnnotated.put(annotation, fasterxml));
-            }
-            return a;
-        }
-    }
 }
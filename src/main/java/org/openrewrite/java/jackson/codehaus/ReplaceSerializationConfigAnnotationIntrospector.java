@@ -20,16 +20,22 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.JacksonUsage;
+import org.openrewrite.java.jackson.JavaTemplateCache;
 import org.openrewrite.java.template.internal.AbstractRefasterJavaVisitor;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
 import static org.openrewrite.java.template.internal.AbstractRefasterJavaVisitor.EmbeddingOption.SHORTEN_NAMES;
 
 public class ReplaceSerializationConfigAnnotationIntrospector extends Recipe {
+    private static final MethodMatcher GET_SERIALIZATION_CONFIG =
+            new MethodMatcher("org.codehaus.jackson.map.ObjectMapper getSerializationConfig(..)", true);
+    private static final MethodMatcher SET_ANNOTATION_INTROSPECTOR =
+            new MethodMatcher("org.codehaus.jackson.map.MapperConfig setAnnotationIntrospector(..)", true);
+
     @Getter
     final String displayName = "Migrate serialization annotation processor";
 
@@ -38,36 +44,33 @@ public class ReplaceSerializationConfigAnnotationIntrospector extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        // The before and after templates use different types matching types, so we use JavaTemplate.Matcher here only
+        // The Codehaus side is matched structurally, so only the FasterXML replacement needs a template,
+        // which is attributed against the bundled Jackson 2 type tables and shared for the whole run
         JavaVisitor<ExecutionContext> javaVisitor = new AbstractRefasterJavaVisitor() {
-            final JavaTemplate before = JavaTemplate
-                    .builder("#{mapper:any(org.codehaus.jackson.map.ObjectMapper)}.getSerializationConfig().setAnnotationIntrospector(#{introspector:any(org.codehaus.jackson.map.AnnotationIntrospector)});")
-                    .javaParser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()))
-                    .build();
-            final JavaTemplate after = JavaTemplate
-                    .builder("#{mapper:any(com.fasterxml.jackson.databind.ObjectMapper)}.setConfig(#{mapper}.getSerializationConfig().with(#{introspector:any(com.fasterxml.jackson.databind.AnnotationIntrospector)}));")
-                    .javaParser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()))
-                    .build();
-
             @Override
             public J visitMethodInvocation(J.MethodInvocation elem, ExecutionContext ctx) {
-                JavaTemplate.Matcher matcher = before.matcher(getCursor());
-                if (matcher.find()) {
-                    return embed(
-                            after.apply(getCursor(), elem.getCoordinates().replace(), matcher.parameter(0), matcher.parameter(1)),
-                            getCursor(),
-                            ctx,
-                            SHORTEN_NAMES
-                    );
+                if (SET_ANNOTATION_INTROSPECTOR.matches(elem) &&
+                        elem.getSelect() instanceof J.MethodInvocation &&
+                        GET_SERIALIZATION_CONFIG.matches((J.MethodInvocation) elem.getSelect())) {
+                    J.MethodInvocation getSerializationConfig = (J.MethodInvocation) elem.getSelect();
+                    Expression mapper = getSerializationConfig.getSelect();
+                    if (mapper != null) {
+                        return embed(
+                                JavaTemplateCache.template("#{mapper:any(com.fasterxml.jackson.databind.ObjectMapper)}.setConfig(#{mapper}.getSerializationConfig().with(#{introspector:any(com.fasterxml.jackson.databind.AnnotationIntrospector)}));", ctx)
+                                        .classpathFromResources("jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+                                        .build()
+                                        .apply(getCursor(), elem.getCoordinates().replace(), mapper, elem.getArguments().get(0)),
+                                getCursor(),
+                                ctx,
+                                SHORTEN_NAMES
+                        );
+                    }
                 }
                 return super.visitMethodInvocation(elem, ctx);
             }
         };
         return Preconditions.check(
-                Preconditions.and(
-                        new UsesMethod<>("org.codehaus.jackson.map.ObjectMapper getSerializationConfig(..)", true),
-                        new UsesMethod<>("org.codehaus.jackson.map.MapperConfig setAnnotationIntrospector(..)", true)
-                ),
+                JacksonUsage.usesAllMethods(GET_SERIALIZATION_CONFIG, SET_ANNOTATION_INTROSPECTOR),
                 javaVisitor
         );
     }
@@ -23,17 +23,17 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.jackson.codehaus.RemoveDoublyAnnotatedCodehausAnnotations.FindDoublyAnnotatedVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.JacksonUsage;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.Space;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import static java.util.Collections.singletonList;
+import static org.openrewrite.java.jackson.codehaus.DoublyAnnotated.CODEHAUS_JSON_SERIALIZE;
+import static org.openrewrite.java.jackson.codehaus.DoublyAnnotated.FASTERXML_JSON_SERIALIZE;
 
 public class TransferJsonSerializeArgumentsFromCodehausToFasterXML extends Recipe {
 
@@ -48,77 +48,83 @@ public class TransferJsonSerializeArgumentsFromCodehausToFasterXML extends Recip
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.and(
-                        new UsesType<>("org.codehaus.jackson.map.annotate.JsonSerialize", false),
-                        new UsesType<>("com.fasterxml.jackson.databind.annotation.JsonSerialize", false)),
+        return Preconditions.check(JacksonUsage.usesAllTypes(CODEHAUS_JSON_SERIALIZE, FASTERXML_JSON_SERIALIZE),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J preVisit(@NonNull J tree, ExecutionContext ctx) {
                         stopAfterPreVisit();
+                        if (!(tree instanceof JavaSourceFile)) {
+                            return tree;
+                        }
 
                         // Map from codehaus -> fasterxml annotation
-                        Map<J.Annotation, J.Annotation> doubleAnnotated = new FindDoublyAnnotatedVisitor().reduce(tree, new HashMap<>());
-
-                        for (String argumentName : TRANSFERABLE_ARGUMENTS) {
-                            transferArgument(doubleAnnotated, argumentName);
+                        Map<J.Annotation, J.Annotation> doubleAnnotated = DoublyAnnotated.pairs((JavaSourceFile) tree, ctx);
+                        Map<J.Annotation, Map<String, Expression>> transfers = mapToArgumentExpressions(doubleAnnotated);
+                        if (!transfers.isEmpty()) {
+                            doAfterVisit(new TransferArgumentsVisitor(transfers));
                         }
-
                         return tree;
                     }
-
-                    private void transferArgument(Map<J.Annotation, J.Annotation> doubleAnnotated, String argumentName) {
-                        Map<J.Annotation, Expression> argumentExpressionMap = mapToArgumentExpression(doubleAnnotated, argumentName);
-                        doAfterVisit(new TransferArgumentsVisitor(argumentExpressionMap, argumentName));
-                    }
                 });
     }
 
-    private static Map<J.Annotation, Expression> mapToArgumentExpression(Map<J.Annotation, J.Annotation> doubleAnnotated, String argumentName) {
-        // Map from fasterxml -> value of "using=..." in codehaus annotation
-        Map<J.Annotation, Expression> mapToArgument = new HashMap<>();
+    private static Map<J.Annotation, Map<String, Expression>> mapToArgumentExpressions(Map<J.Annotation, J.Annotation> doubleAnnotated) {
+        // Map from fasterxml -> values of "using=...", "contentUsing=..." and so on in codehaus annotation, in transfer order
+        Map<J.Annotation, Map<String, Expression>> mapToArguments = new HashMap<>();
         doubleAnnotated.forEach((key, value) -> {
-            if (key.getArguments() != null || key.getArguments().isEmpty()) {
-                key.getArguments().forEach(arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assign = (J.Assignment) arg;
-                        J.Identifier varId = (J.Identifier) assign.getVariable();
-                        if (argumentName.equals(varId.getSimpleName())) {
-                            mapToArgument.put(value, arg);
+            if (key.getArguments() != null) {
+                for (String argumentName : TRANSFERABLE_ARGUMENTS) {
+                    key.getArguments().forEach(arg -> {
+                        if (arg instanceof J.Assignment) {
+                            J.Assignment assign = (J.Assignment) arg;
+                            J.Identifier varId = (J.Identifier) assign.getVariable();
+                            if (argumentName.equals(varId.getSimpleName())) {
+                                mapToArguments.computeIfAbsent(value, k -> new LinkedHashMap<>()).put(argumentName, arg);
+                            }
                         }
-                    }
-                });
+                    });
+                }
             }
         });
-        return mapToArgument;
+        return mapToArguments;
     }
 
     @RequiredArgsConstructor
     private static class TransferArgumentsVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private final Map<J.Annotation, Expression> fasterXmlToUsingExpression;
-        private final String argumentName;
+        private final Map<J.Annotation, Map<String, Expression>> fasterXmlToArgumentExpressions;
 
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
-            Expression e = fasterXmlToUsingExpression.get(annotation);
-            if (e != null) {
-                List<Expression> arguments = annotation.getArguments();
-                if (arguments == null || arguments.isEmpty() || arguments.get(0) instanceof J.Empty) {
-                    return annotation.withArguments(singletonList(e.withPrefix(Space.EMPTY)));
-                }
+            Map<String, Expression> transfers = fasterXmlToArgumentExpressions.get(annotation);
+            if (transfers == null) {
+                return annotation;
+            }
+            J.Annotation a = annotation;
+            for (Map.Entry<String, Expression> transfer : transfers.entrySet()) {
+                a = transferArgument(a, transfer.getKey(), transfer.getValue());
+            }
+            return a;
+        }
 
-                boolean notAlreadyUsing = arguments.stream().noneMatch(arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assign = (J.Assignment) arg;
-                        J.Identifier varId = (J.Identifier) assign.getVariable();
-                        return argumentName.equals(varId.getSimpleName());
-                    }
-                    return false;
-                });
-                if (notAlreadyUsing) {
-                    arguments.add(e);
-                    return annotation.withArguments(arguments);
+        private static J.Annotation transferArgument(J.Annotation annotation, String argumentName, Expression e) {
+            List<Expression> arguments = annotation.getArguments();
+            if (arguments == null || arguments.isEmpty() || arguments.get(0) instanceof J.Empty) {
+                return annotation.withArguments(singletonList(e.withPrefix(Space.EMPTY)));
+            }
+
+            boolean notAlreadyUsing = arguments.stream().noneMatch(arg -> {
+                if (arg instanceof J.Assignment) {
+                    J.Assignment assign = (J.Assignment) arg;
+                    J.Identifier varId = (J.Identifier) assign.getVariable();
+                    return argumentName.equals(varId.getSimpleName());
                 }
+                return false;
+            });
+            if (notAlreadyUsing) {
+                List<Expression> transferred = new ArrayList<>(arguments);
+                transferred.add(e);
+                return annotation.withArguments(transferred);
             }
             return annotation;
         }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class AddJackson3MigrationCommentsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddJackson3MigrationComments())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-core-2", "jackson-databind-2", "jackson-datatype-joda-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void allCommentsInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationConfig;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+              class Test {
+                  DeserializationConfig method(ObjectMapper mapper, JsonSerializer<String> serializer) {
+                      boolean canDo = mapper.canSerialize(String.class);
+                      JodaModule module = new JodaModule();
+                      module.addSerializer(String.class, serializer);
+                      return mapper.deserializationConfig();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationConfig;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+              class Test {
+                  DeserializationConfig method(ObjectMapper mapper, JsonSerializer<String> serializer) {
+                      boolean canDo = /* TODO canSerialize was removed in Jackson 3 with no replacement (see https://github.com/FasterXML/jackson-databind/issues/1917). Attempt serialization/deserialization and catch exceptions instead. */ mapper.canSerialize(String.class);
+                      JodaModule module = new JodaModule();
+                      /* TODO this module no longer extends SimpleModule in Jackson 3,
+                       * so addSerializer/addDeserializer calls are no longer available.
+                       * Move this call to a new SimpleModule and register it separately:
+                       *   SimpleModule customModule = new SimpleModule();
+                       *   customModule.addSerializer(...);
+                       *   mapper.registerModule(customModule);
+                       * Note: register the custom module AFTER the original module,
+                       * as the last registered serializer for a given type wins.
+                       */
+                      module.addSerializer(String.class, serializer);
+                      return /* TODO deserializationConfig() is not to be used by application code in Jackson 3 (see https://github.com/FasterXML/jackson-databind/blob/3.x/src/main/java/tools/jackson/databind/ObjectMapper.java#L427). Consider using builder configuration instead. */ mapper.deserializationConfig();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addDeserializerOnJodaModule() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+              import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+              class Test {
+                  void configure(JsonDeserializer<String> deserializer) {
+                      JodaModule module = new JodaModule();
+                      module.addDeserializer(String.class, deserializer);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+              import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+              class Test {
+                  void configure(JsonDeserializer<String> deserializer) {
+                      JodaModule module = new JodaModule();
+                      /* TODO this module no longer extends SimpleModule in Jackson 3,
+                       * so addSerializer/addDeserializer calls are no longer available.
+                       * Move this call to a new SimpleModule and register it separately:
+                       *   SimpleModule customModule = new SimpleModule();
+                       *   customModule.addSerializer(...);
+                       *   mapper.registerModule(customModule);
+                       * Note: register the custom module AFTER the original module,
+                       * as the last registered serializer for a given type wins.
+                       */
+                      module.addDeserializer(String.class, deserializer);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForSimpleModule() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.module.SimpleModule;
+
+              class Test {
+                  void configure(JsonSerializer<String> serializer) {
+                      SimpleModule module = new SimpleModule();
+                      module.addSerializer(String.class, serializer);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenEarlierCommentHasMarker() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+              class Test {
+                  void configure(JsonSerializer<String> serializer) {
+                      JodaModule module = new JodaModule();
+                      /* TODO this module no longer extends SimpleModule in Jackson 3, move this call */
+                      // registered before the custom module
+                      module.addSerializer(String.class, serializer);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
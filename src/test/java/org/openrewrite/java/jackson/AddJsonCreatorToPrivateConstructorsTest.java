@@ -102,6 +102,48 @@ class AddJsonCreatorToPrivateConstructorsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void severalPrivateConstructorsInOneFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Model {
+                  private final String name;
+
+                  private Model(@JsonProperty("name") String name) {
+                      this.name = name;
+                  }
+
+                  private Model(@JsonProperty("name") String name, @JsonProperty("age") int age) {
+                      this.name = name + age;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonCreator;
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Model {
+                  private final String name;
+
+                  @JsonCreator
+                  private Model(@JsonProperty("name") String name) {
+                      this.name = name;
+                  }
+
+                  @JsonCreator
+                  private Model(@JsonProperty("name") String name, @JsonProperty("age") int age) {
+                      this.name = name + age;
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void protectedConstructorWithJsonPropertyParams() {
         rewriteRun(
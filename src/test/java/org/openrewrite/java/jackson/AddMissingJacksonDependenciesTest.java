@@ -35,7 +35,7 @@ class AddMissingJacksonDependenciesTest implements RewriteTest {
         spec.recipeFromResources("org.openrewrite.java.jackson.AddMissingJacksonDependencies")
           .parser(JavaParser.fromJavaVersion()
             .classpathFromResources(new InMemoryExecutionContext(),
-              "jackson-core-2", "jackson-databind-2", "jackson-dataformat-xml-2"));
+              "jackson-core-2", "jackson-databind-2", "jackson-dataformat-xml-2", "jackson-dataformat-yaml-2"));
     }
 
     @DocumentExample
@@ -118,4 +118,170 @@ class AddMissingJacksonDependenciesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void addDependencyForEachFormatUsed() {
+        rewriteRun(
+          mavenProject("project",
+            srcMainJava(
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+                  class A {
+                      XmlMapper mapper = new XmlMapper();
+                  }
+                  """
+              ),
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+                  class B {
+                      YAMLMapper mapper = new YAMLMapper();
+                  }
+                  """
+              )
+            ),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>example</artifactId>
+                    <version>1.0.0</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pom ->
+                assertThat(pom)
+                  .contains(">jackson-dataformat-xml<")
+                  .contains(">jackson-dataformat-yaml<")
+                  .doesNotContain(">jackson-dataformat-csv<")
+                  .actual())
+            )
+          )
+        );
+    }
+
+    @Test
+    void onlyAddDependencyToModuleUsingFormat() {
+        rewriteRun(
+          mavenProject("xml-module",
+            srcMainJava(
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+                  class A {
+                      XmlMapper mapper = new XmlMapper();
+                  }
+                  """
+              )
+            ),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>xml-module</artifactId>
+                    <version>1.0.0</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pom ->
+                assertThat(pom)
+                  .contains(">jackson-dataformat-xml<")
+                  .actual())
+            )
+          ),
+          mavenProject("json-module",
+            srcMainJava(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.ObjectMapper;
+
+                  class B {
+                      ObjectMapper mapper = new ObjectMapper();
+                  }
+                  """
+              )
+            ),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>json-module</artifactId>
+                    <version>1.0.0</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenDependencyAlreadyDeclared() {
+        rewriteRun(
+          mavenProject("project",
+            srcMainJava(
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+                  class A {
+                      XmlMapper mapper = new XmlMapper();
+                  }
+                  """
+              )
+            ),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>example</artifactId>
+                    <version>1.0.0</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.dataformat</groupId>
+                            <artifactId>jackson-dataformat-xml</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
 }
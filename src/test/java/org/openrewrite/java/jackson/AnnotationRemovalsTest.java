@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class AnnotationRemovalsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(toRecipe(() -> new JavaIsoVisitor<ExecutionContext>() {
+              @Override
+              public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                  J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                  for (J.Annotation annotation : vd.getLeadingAnnotations()) {
+                      if (annotation.getSimpleName().startsWith("Json")) {
+                          AnnotationRemovals.remove(this, annotation);
+                      }
+                  }
+                  return vd;
+              }
+          }))
+          .parser(JavaParser.fromJavaVersion().classpath("jackson-annotations"));
+    }
+
+    @Test
+    void removeSeveralAnnotationsFromOneDeclaration() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonIgnore;
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Model {
+                  @Deprecated
+                  @JsonIgnore
+                  @JsonProperty("name")
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  private String name;
+
+                  @JsonProperty("other")
+                  private String other;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonIgnore;
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Model {
+                  @Deprecated
+                  private String name;
+
+                  private String other;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class FindJacksonMigrationCandidatesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindJacksonMigrationCandidates("jackson-2"))
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "jackson-core-2", "jackson-databind-2", "jackson-core-3"));
+    }
+
+    @DocumentExample
+    @Test
+    void findJackson2Source() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class A {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """,
+            """
+              /*~~>*/import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class A {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipSourceWithoutJackson() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  String name = "jackson";
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipJackson3OnlySource() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import tools.jackson.core.JacksonException;
+
+              class A {
+                  void handle(JacksonException e) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipJackson2SourceWhenMigratingFromCodehaus() {
+        rewriteRun(
+          spec -> spec.recipe(new FindJacksonMigrationCandidates("codehaus")),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class A {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findNonJavaSource() {
+        rewriteRun(
+          text(
+            "lombok.jacksonized.jacksonVersion += 3",
+            "~~>lombok.jacksonized.jacksonVersion += 3"
+          )
+        );
+    }
+}
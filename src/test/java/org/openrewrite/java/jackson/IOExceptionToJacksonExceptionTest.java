@@ -238,6 +238,98 @@ class IOExceptionToJacksonExceptionTest implements RewriteTest {
         );
     }
 
+    @Test
+    void multiCatchWhenIOSourceIsJacksonCallArgument() {
+        rewriteRun(
+          java(
+            """
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void readAndDeserialize(Path path) {
+                      ObjectMapper mapper = new ObjectMapper();
+                      try {
+                          mapper.readValue(Files.readAllBytes(path), String.class);
+                      } catch (IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """,
+            """
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import tools.jackson.core.JacksonException;
+
+              class Test {
+                  void readAndDeserialize(Path path) {
+                      ObjectMapper mapper = new ObjectMapper();
+                      try {
+                          mapper.readValue(Files.readAllBytes(path), String.class);
+                      } catch (JacksonException | IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nestedTryOnlyInnerCatchChanged() {
+        rewriteRun(
+          java(
+            """
+              import java.io.IOException;
+              import java.io.FileInputStream;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void readAndDeserialize(ObjectMapper mapper) {
+                      try {
+                          byte[] data = new FileInputStream("data.json").readAllBytes();
+                          try {
+                              mapper.readValue(data, String.class);
+                          } catch (IOException e) {
+                              throw new RuntimeException(e);
+                          }
+                      } catch (IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """,
+            """
+              import java.io.IOException;
+              import java.io.FileInputStream;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import tools.jackson.core.JacksonException;
+
+              class Test {
+                  void readAndDeserialize(ObjectMapper mapper) {
+                      try {
+                          byte[] data = new FileInputStream("data.json").readAllBytes();
+                          try {
+                              mapper.readValue(data, String.class);
+                          } catch (JacksonException e) {
+                              throw new RuntimeException(e);
+                          }
+                      } catch (JacksonException | IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void expandExistingMultiCatchWithJacksonException() {
         rewriteRun(
@@ -594,4 +594,139 @@ class Jackson3DependenciesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void mixedCoordinatesInOnePom() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3DependencyChanges()),
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-databind</artifactId>
+                          <version>2.19.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.datatype</groupId>
+                          <artifactId>jackson-datatype-guava</artifactId>
+                          <version>2.19.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.dataformat</groupId>
+                          <artifactId>jackson-dataformat-yaml</artifactId>
+                          <version>2.19.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.after(pom ->
+              assertThat(pom)
+                .doesNotContain(">com.fasterxml.jackson.core<")
+                .doesNotContain(">com.fasterxml.jackson.datatype<")
+                .doesNotContain(">com.fasterxml.jackson.dataformat<")
+                .contains(">tools.jackson.core<")
+                .contains(">tools.jackson.datatype<")
+                .contains(">jackson-datatype-guava<")
+                .contains(">tools.jackson.dataformat<")
+                .contains(">jackson-dataformat-yaml<")
+                .containsPattern("3\\.\\d+\\.\\d+")
+                .actual())
+          )
+        );
+    }
+
+    @Test
+    void artifactIdFromProperty() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3DependencyChanges()),
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <properties>
+                      <scala.binary.version>2.13</scala.binary.version>
+                  </properties>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.module</groupId>
+                          <artifactId>jackson-module-scala_${scala.binary.version}</artifactId>
+                          <version>2.19.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.after(pom ->
+              assertThat(pom)
+                .doesNotContain(">com.fasterxml.jackson.module<")
+                .contains(">tools.jackson.module<")
+                .actual())
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutOldCoordinates() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3DependencyChanges()),
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.google.guava</groupId>
+                          <artifactId>guava</artifactId>
+                          <version>33.0.0-jre</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void gradleVersionVariable() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3DependencyChanges()).beforeRecipe(withToolingApi()),
+          buildGradle(
+            //language=gradle
+            """
+              plugins {
+                  id("java-library")
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              def jacksonVersion = "2.19.0"
+
+              dependencies {
+                  implementation("com.fasterxml.jackson.core:jackson-databind:$jacksonVersion")
+              }
+              """,
+            spec -> spec.after(gradle ->
+              assertThat(gradle)
+                .doesNotContain("com.fasterxml.jackson.core")
+                .contains("tools.jackson.core:jackson-databind")
+                .actual())
+          )
+        );
+    }
 }
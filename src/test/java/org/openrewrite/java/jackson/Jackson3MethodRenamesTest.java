@@ -647,4 +647,100 @@ class Jackson3MethodRenamesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void memberReference() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3MethodRenames(null)),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  List<String> test(List<JsonNode> nodes) {
+                      return nodes.stream().map(JsonNode::asText).collect(Collectors.toList());
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  List<String> test(List<JsonNode> nodes) {
+                      return nodes.stream().map(JsonNode::asString).collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reorderSuperConstructorArguments() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3MethodRenames(null)),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerationException;
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              class CustomException extends JsonGenerationException {
+                  CustomException(String msg, JsonGenerator gen) {
+                      super(msg, gen);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerationException;
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              class CustomException extends JsonGenerationException {
+                  CustomException(String msg, JsonGenerator gen) {
+                      super(gen, msg);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void perTypeRenamesOnlyRenameTheirDeclaringType() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.jackson.UpgradeJackson_2_3_JsonParserMethodRenames"),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  void test(JsonParser parser, JsonGenerator gen) throws Exception {
+                      Object parserValue = parser.getCurrentValue();
+                      Object generatorValue = gen.getCurrentValue();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  void test(JsonParser parser, JsonGenerator gen) throws Exception {
+                      Object parserValue = parser.currentValue();
+                      Object generatorValue = gen.getCurrentValue();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
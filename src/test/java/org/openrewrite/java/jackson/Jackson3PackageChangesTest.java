@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class Jackson3PackageChangesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new Jackson3PackageChanges())
+          .parser(JavaParser.fromJavaVersion().classpath(
+            "jackson-annotations", "jackson-core", "jackson-databind", "jackson-datatype-jsr310"));
+    }
+
+    @DocumentExample
+    @Test
+    void nestedPackageBeforeParent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+              class Test {
+                  ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+              }
+              """,
+            """
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.ext.javatime.JavaTimeModule;
+
+              class Test {
+                  ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void annotationsAreNotRelocated() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Test {
+                  @JsonProperty("name")
+                  String name;
+              }
+              """
+          )
+        );
+    }
+}
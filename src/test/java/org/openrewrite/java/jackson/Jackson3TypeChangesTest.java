@@ -343,4 +343,76 @@ class Jackson3TypeChangesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void onlyReferencedTypesChange() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3TypeChanges()),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String write(ObjectMapper mapper, Object value) throws JsonProcessingException {
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import tools.jackson.core.JacksonException;
+
+              class Test {
+                  String write(ObjectMapper mapper, Object value) throws JacksonException {
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nestedFeatureType() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3TypeChanges()),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+
+              class Test {
+                  ToXmlGenerator.Feature feature = ToXmlGenerator.Feature.WRITE_XML_DECLARATION;
+              }
+              """,
+            """
+              import tools.jackson.dataformat.xml.XmlWriteFeature;
+
+              class Test {
+                  XmlWriteFeature feature = XmlWriteFeature.WRITE_XML_DECLARATION;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noJacksonTypes() {
+        rewriteRun(
+          spec -> spec.recipe(new Jackson3TypeChanges()),
+          //language=java
+          java(
+            """
+              import java.io.IOException;
+
+              class Test {
+                  void run() throws IOException {
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonUsageTest {
+
+    //language=java
+    private static final String JACKSON_2_SOURCE = """
+      import com.fasterxml.jackson.annotation.JsonInclude;
+      import com.fasterxml.jackson.databind.ObjectMapper;
+
+      class Test {
+          JsonInclude.Include include = JsonInclude.Include.NON_NULL;
+
+          String write(ObjectMapper mapper, Object value) throws Exception {
+              return mapper.writeValueAsString(value);
+          }
+      }
+      """;
+
+    //language=java
+    private static final String PLAIN_SOURCE = """
+      class Plain {
+          String name = "plain";
+      }
+      """;
+
+    @Test
+    void jacksonGenerations() {
+        JacksonUsage usage = JacksonUsage.of(parse(JACKSON_2_SOURCE), new InMemoryExecutionContext());
+
+        assertThat(usage.usesJackson2()).isTrue();
+        assertThat(usage.usesJackson3()).isFalse();
+        assertThat(usage.usesCodehaus()).isFalse();
+    }
+
+    @Test
+    void packageForm() {
+        JacksonUsage usage = JacksonUsage.of(parse(JACKSON_2_SOURCE), new InMemoryExecutionContext());
+
+        assertThat(usage.usesType("com.fasterxml.jackson.databind.*")).isTrue();
+        assertThat(usage.usesType("com.fasterxml.jackson.annotation.*")).isTrue();
+        // only the package itself, not its parent packages
+        assertThat(usage.usesType("com.fasterxml.jackson.*")).isFalse();
+        assertThat(usage.usesType("tools.jackson.databind.*")).isFalse();
+    }
+
+    @Test
+    void nestedTypeNames() {
+        JacksonUsage usage = JacksonUsage.of(parse(JACKSON_2_SOURCE), new InMemoryExecutionContext());
+
+        assertThat(usage.usesType("com.fasterxml.jackson.annotation.JsonInclude$Include")).isTrue();
+        assertThat(usage.usesType("com.fasterxml.jackson.annotation.JsonInclude.Include")).isTrue();
+        assertThat(usage.usesType("com.fasterxml.jackson.annotation.JsonInclude$Value")).isFalse();
+    }
+
+    @Test
+    void summaryRebuiltWhenSourceFileChanges() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        J.CompilationUnit jackson2 = parse(JACKSON_2_SOURCE);
+
+        JacksonUsage usage = JacksonUsage.of(jackson2, ctx);
+        assertThat(JacksonUsage.of(jackson2, ctx)).isSameAs(usage);
+
+        JacksonUsage plain = JacksonUsage.of(parse(PLAIN_SOURCE), ctx);
+        assertThat(plain).isNotSameAs(usage);
+        assertThat(plain.usesJackson2()).isFalse();
+
+        // an edited file is a new instance, so its summary is not taken from the one before
+        J.CompilationUnit edited = jackson2.withId(Tree.randomId());
+        JacksonUsage editedUsage = JacksonUsage.of(edited, ctx);
+        assertThat(editedUsage).isNotSameAs(usage);
+        assertThat(editedUsage.usesJackson2()).isTrue();
+    }
+
+    @Test
+    void methodMatchesMemoizedPerMatcher() {
+        AtomicInteger matches = new AtomicInteger();
+        MethodMatcher writeValueAsString = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsString(..)") {
+            @Override
+            public boolean matches(JavaType.@Nullable Method type) {
+                matches.incrementAndGet();
+                return super.matches(type);
+            }
+        };
+        JacksonUsage usage = JacksonUsage.of(parse(JACKSON_2_SOURCE), new InMemoryExecutionContext());
+
+        assertThat(usage.usesMethod(writeValueAsString)).isTrue();
+        int firstLookup = matches.get();
+        assertThat(usage.usesMethod(writeValueAsString)).isTrue();
+        assertThat(matches.get()).isEqualTo(firstLookup);
+
+        assertThat(usage.usesMethod(new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(..)"))).isFalse();
+    }
+
+    private static J.CompilationUnit parse(String source) {
+        return (J.CompilationUnit) JavaParser.fromJavaVersion()
+          .classpath("jackson-annotations", "jackson-core", "jackson-databind")
+          .build()
+          .parse(new InMemoryExecutionContext(), source)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("Could not parse source"));
+    }
+}
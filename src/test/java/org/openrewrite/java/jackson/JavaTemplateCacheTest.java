@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaTemplateCacheTest {
+
+    @Test
+    void equalTemplatesShareOneInstancePerRun() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JavaTemplate first = JavaTemplateCache.template("#{any(java.util.List)}.isEmpty()", ctx)
+          .imports("java.util.List")
+          .build();
+        JavaTemplate second = JavaTemplateCache.template("#{any(java.util.List)}.isEmpty()", ctx)
+          .imports("java.util.List")
+          .build();
+        JavaTemplate otherImports = JavaTemplateCache.template("#{any(java.util.List)}.isEmpty()", ctx)
+          .build();
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherImports).isNotSameAs(first);
+        assertThat(JavaTemplateCache.of(ctx).getCompileCount()).isEqualTo(2);
+        assertThat(JavaTemplateCache.of(ctx).getHitCount()).isEqualTo(1);
+
+        JavaTemplate nextRun = JavaTemplateCache.template("#{any(java.util.List)}.isEmpty()", new InMemoryExecutionContext())
+          .imports("java.util.List")
+          .build();
+        assertThat(nextRun).isNotSameAs(first);
+    }
+}
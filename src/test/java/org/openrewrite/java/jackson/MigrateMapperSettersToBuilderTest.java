@@ -18,10 +18,20 @@ package org.openrewrite.java.jackson;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.Issue;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class MigrateMapperSettersToBuilderTest implements RewriteTest {
@@ -305,6 +315,43 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
             );
         }
 
+        @Test
+        void synthesizedChainIsTypeAttributed() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.DeserializationFeature;
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.DeserializationFeature;
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                  .build();
+                      }
+                  }
+                  """,
+                spec -> spec.afterRecipe(cu -> assertBuilderChainTypes(cu, "disable", "enable"))
+              )
+            );
+        }
+
         @Test
         void registerModuleRenamedToAddModule() {
             rewriteRun(
@@ -415,6 +462,97 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
             );
         }
 
+        @Test
+        void commentedSetterFallsBackToTemplate() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.DeserializationFeature;
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          // Fail on unknown
+                          mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.DeserializationFeature;
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  // Fail on unknown
+                                  .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                  .build();
+                      }
+                  }
+                  """,
+                spec -> spec.afterRecipe(cu -> assertBuilderChainTypes(cu, "disable", "enable"))
+              )
+            );
+        }
+
+        @Test
+        void sameShapeSharesTemplate() {
+            ExecutionContext ctx = new InMemoryExecutionContext();
+            rewriteRun(
+              spec -> spec.executionContext(ctx),
+              java(
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper first() {
+                          JsonMapper mapper = new JsonMapper();
+                          // Disable indentation
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          return mapper;
+                      }
+
+                      JsonMapper second() {
+                          JsonMapper mapper = new JsonMapper();
+                          // Disable indentation
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper first() {
+                          return JsonMapper.builder()
+                                  // Disable indentation
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .build();
+                      }
+
+                      JsonMapper second() {
+                          return JsonMapper.builder()
+                                  // Disable indentation
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .build();
+                      }
+                  }
+                  """
+              )
+            );
+            assertThat(JavaTemplateCache.of(ctx).getCompileCount()).isEqualTo(1);
+            assertThat(JavaTemplateCache.of(ctx).getHitCount()).isEqualTo(1);
+        }
+
         @Test
         void blockCommentsOnSettersPreserved() {
             rewriteRun(
@@ -576,6 +714,90 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
             );
         }
 
+        @Test
+        void twoMappersInOneBlock() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      void configure() {
+                          JsonMapper first = new JsonMapper();
+                          first.disable(SerializationFeature.INDENT_OUTPUT);
+                          JsonMapper second = new JsonMapper();
+                          second.enable(SerializationFeature.WRAP_ROOT_VALUE);
+                          doSomething(first, second);
+                      }
+                      void doSomething(JsonMapper first, JsonMapper second) {}
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      void configure() {
+                          JsonMapper first = JsonMapper.builder()
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .build();
+                          JsonMapper second = JsonMapper.builder()
+                                  .enable(SerializationFeature.WRAP_ROOT_VALUE)
+                                  .build();
+                          doSomething(first, second);
+                      }
+                      void doSomething(JsonMapper first, JsonMapper second) {}
+                  }
+                  """
+              )
+            );
+        }
+
+        @Test
+        void twoChainsInOneFile() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper first() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          return mapper;
+                      }
+
+                      JsonMapper second() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.enable(SerializationFeature.WRAP_ROOT_VALUE);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper first() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .build();
+                      }
+
+                      JsonMapper second() {
+                          return JsonMapper.builder()
+                                  .enable(SerializationFeature.WRAP_ROOT_VALUE)
+                                  .build();
+                      }
+                  }
+                  """
+              )
+            );
+        }
+
         @Test
         void mapperFromParameter() {
             rewriteRun(
@@ -1318,4 +1540,89 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
             );
         }
     }
+
+    @Nested
+    class SourceSelection {
+
+        @Test
+        void readValueOnConstructedMapperIsUnchanged() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      String read(String json) throws Exception {
+                          JsonMapper mapper = new JsonMapper();
+                          return mapper.readValue(json, String.class);
+                      }
+                  }
+                  """
+              )
+            );
+        }
+
+        @Test
+        void setterOnMapperParameterFoundByName() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+                  import com.fasterxml.jackson.databind.module.SimpleModule;
+
+                  class A {
+                      String configure(JsonMapper mapper, String json) throws Exception {
+                          mapper.registerModule(new SimpleModule());
+                          return mapper.readValue(json, String.class);
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+                  import com.fasterxml.jackson.databind.module.SimpleModule;
+
+                  class A {
+                      String configure(JsonMapper mapper, String json) throws Exception {
+                          // TODO registerModule could not be folded to the builder of JsonMapper. Use mapper.rebuild().addModule(...).build() or move to the mapper's instantiation site.
+                          mapper.registerModule(new SimpleModule());
+                          return mapper.readValue(json, String.class);
+                      }
+                  }
+                  """
+              )
+            );
+        }
+    }
+
+    /**
+     * Asserts that the builder chain in the only method of the source is attributed from
+     * {@code builder()} through each setter to {@code build()}.
+     */
+    private static void assertBuilderChainTypes(J.CompilationUnit cu, String... setters) {
+        List<J.MethodInvocation> chain = new JavaIsoVisitor<List<J.MethodInvocation>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> invocations) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, invocations);
+                invocations.add(m);
+                return m;
+            }
+        }.reduce(cu, new ArrayList<>());
+
+        assertThat(chain).hasSize(setters.length + 2);
+        JavaType.Method builder = chain.get(0).getMethodType();
+        assertThat(builder).isNotNull();
+        assertThat(builder.getName()).isEqualTo("builder");
+        assertThat(TypeUtils.isOfClassType(builder.getDeclaringType(), "com.fasterxml.jackson.databind.json.JsonMapper")).isTrue();
+        for (int i = 0; i < setters.length; i++) {
+            JavaType.Method setter = chain.get(i + 1).getMethodType();
+            assertThat(setter).isNotNull();
+            assertThat(setter.getName()).isEqualTo(setters[i]);
+            assertThat(TypeUtils.isOfType(setter.getDeclaringType(), builder.getReturnType())).isTrue();
+        }
+        JavaType.Method build = chain.get(chain.size() - 1).getMethodType();
+        assertThat(build).isNotNull();
+        assertThat(build.getName()).isEqualTo("build");
+        assertThat(TypeUtils.isOfType(build.getDeclaringType(), builder.getReturnType())).isTrue();
+        assertThat(TypeUtils.isOfClassType(build.getReturnType(), "com.fasterxml.jackson.databind.json.JsonMapper")).isTrue();
+    }
 }
@@ -176,4 +176,78 @@ class RelocatedFeatureConstantsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void staticallyImportedConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS;
+              import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(FAIL_ON_NUMBERS_FOR_ENUMS);
+                      mapper.disable(WRITE_DATES_AS_TIMESTAMPS);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import static tools.jackson.databind.cfg.DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS;
+              import static tools.jackson.databind.cfg.EnumFeature.FAIL_ON_NUMBERS_FOR_ENUMS;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(FAIL_ON_NUMBERS_FOR_ENUMS);
+                      mapper.disable(WRITE_DATES_AS_TIMESTAMPS);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void enumConstantInCaseLabel() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonToken;
+
+              class Test {
+                  boolean isName(JsonToken token) {
+                      switch (token) {
+                          case FIELD_NAME:
+                              return true;
+                          default:
+                              return false;
+                      }
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonToken;
+
+              class Test {
+                  boolean isName(JsonToken token) {
+                      switch (token) {
+                          case PROPERTY_NAME:
+                              return true;
+                          default:
+                              return false;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -488,6 +488,76 @@ class RemoveRedundantFeatureFlagsTest implements RewriteTest {
 
 
 
+    @Test
+    void removeDifferentFeaturesInOneFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+                      mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                      mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void singleFeatureRecipe() {
+        rewriteRun(
+          spec -> spec.recipe(new RemoveRedundantFeatureFlags("DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES", false)),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+                      mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Nested
     class MapperBuilder {
 
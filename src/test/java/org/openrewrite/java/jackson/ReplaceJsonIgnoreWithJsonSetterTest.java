@@ -132,6 +132,42 @@ class ReplaceJsonIgnoreWithJsonSetterTest implements RewriteTest {
         );
     }
 
+    @Test
+    void removeJsonIgnoreBetweenOtherAnnotations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonIgnore;
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Model {
+                  @JsonProperty("entries")
+                  @JsonIgnore
+                  private List<String> items = new ArrayList<>();
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonProperty;
+              import com.fasterxml.jackson.annotation.JsonSetter;
+              import com.fasterxml.jackson.annotation.Nulls;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Model {
+                  @JsonProperty("entries")
+                  @JsonSetter(nulls = Nulls.AS_EMPTY)
+                  private List<String> items = new ArrayList<>();
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void doNotChangeNonCollectionField() {
         rewriteRun(
@@ -17,10 +17,13 @@ package org.openrewrite.java.jackson;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class ReplaceStreamWriteCapabilityTest implements RewriteTest {
@@ -58,4 +61,43 @@ class ReplaceStreamWriteCapabilityTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void templateBuiltOncePerRun() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        rewriteRun(
+          spec -> spec.executionContext(ctx),
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              class Test {
+                  boolean first(JsonGenerator generator) {
+                      return generator.canWriteBinaryNatively();
+                  }
+
+                  boolean second(JsonGenerator generator) {
+                      return generator.canWriteBinaryNatively();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.core.StreamWriteCapability;
+
+              class Test {
+                  boolean first(JsonGenerator generator) {
+                      return generator.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY);
+                  }
+
+                  boolean second(JsonGenerator generator) {
+                      return generator.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY);
+                  }
+              }
+              """
+          )
+        );
+        assertThat(JavaTemplateCache.of(ctx).getCompileCount()).isEqualTo(1);
+        assertThat(JavaTemplateCache.of(ctx).getHitCount()).isEqualTo(1);
+    }
 }
@@ -207,4 +207,52 @@ class SimplifyJacksonExceptionCatchTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void sameExceptionCaughtInSeveralMethods() {
+        rewriteRun(
+          java(
+            """
+              import tools.jackson.core.JacksonException;
+
+              class Test {
+                  void first() {
+                      try {
+                          // some code
+                      } catch (JacksonException | RuntimeException e) {
+                          e.printStackTrace();
+                      }
+                  }
+
+                  void second() {
+                      try {
+                          // some code
+                      } catch (JacksonException | RuntimeException e) {
+                          e.printStackTrace();
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void first() {
+                      try {
+                          // some code
+                      } catch (RuntimeException e) {
+                          e.printStackTrace();
+                      }
+                  }
+
+                  void second() {
+                      try {
+                          // some code
+                      } catch (RuntimeException e) {
+                          e.printStackTrace();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -68,6 +68,21 @@ class CodehausToFasterXMLTest implements RewriteTest {
         );
     }
 
+    @Test
+    void leaveFilesWithoutCodehausTypesUntouched() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.jackson.CodehausClassesToFasterXML"),
+          //language=java
+          java(
+            """
+              class Test {
+                  java.util.List<String> names = new java.util.ArrayList<>();
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void serializationConfigEnums() {
         rewriteRun(
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.jackson.codehaus;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -172,4 +173,24 @@ class TransferJsonSerializeArgumentsFromCodehausToFasterXMLTest implements Rewri
           )
         );
     }
+
+    @Test
+    void annotationsOnDifferentElementsAreNotPaired() {
+        rewriteRun(
+          spec -> spec.recipes(new TransferJsonSerializeArgumentsFromCodehausToFasterXML(), new RemoveDoublyAnnotatedCodehausAnnotations()),
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.JsonSerializer.None;
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              @JsonSerialize(using = None.class)
+              class Test {
+                @com.fasterxml.jackson.databind.annotation.JsonSerialize
+                private String first;
+              }
+              """
+          )
+        );
+    }
 }